@@ -0,0 +1,322 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc.arrow;
+
+import com.mongodb.jdbc.MongoColumnInfo;
+import com.mongodb.jdbc.MongoColumnarResultSet;
+import com.mongodb.jdbc.MongoResultSetMetaData;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampMilliTZVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.bson.BSONException;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+
+/**
+ * MongoArrowReader streams the rows of a MongoDB JDBC driver result set into Arrow record batches.
+ * The rows are read through {@link MongoColumnarResultSet}, and the BSON values are written
+ * straight into the vectors of a single {@link VectorSchemaRoot}, which is reloaded for every
+ * batch.
+ *
+ * <p>The Arrow schema is derived from the result set schema:
+ *
+ * <ul>
+ *   <li>int, long, double and bool columns are Int(32), Int(64), FloatingPoint(DOUBLE) and Bool
+ *   <li>date columns are Timestamp(MILLISECOND, "UTC")
+ *   <li>binData columns are Binary
+ *   <li>decimal columns are Utf8, because Arrow decimals have a fixed scale and BSON decimals do
+ *       not
+ *   <li>objectId columns are Utf8 hex strings
+ *   <li>all other columns, including the polymorphic ones, are Utf8, formatted like getString()
+ * </ul>
+ *
+ * <pre>
+ * try (MongoArrowReader reader = new MongoArrowReader(resultSet, allocator)) {
+ *     VectorSchemaRoot root = reader.getVectorSchemaRoot();
+ *     while (reader.loadNextBatch()) {
+ *         // Consume the batch in root.
+ *     }
+ * }
+ * </pre>
+ *
+ * The reader does not close the result set.
+ */
+public class MongoArrowReader implements AutoCloseable {
+    public static final int DEFAULT_BATCH_SIZE = 4096;
+
+    private final MongoColumnarResultSet columnarResultSet;
+    private final int batchSize;
+    // The BSON type of each column, or null for the columns written as strings by getStrings.
+    private final BsonType[] columnTypes;
+    private final VectorSchemaRoot root;
+
+    // Buffers for the values of one column of the current batch.
+    private final BsonValue[] values;
+    private final String[] strings;
+    private final BitSet nulls = new BitSet();
+
+    public MongoArrowReader(ResultSet resultSet, BufferAllocator allocator) throws SQLException {
+        this(resultSet, allocator, DEFAULT_BATCH_SIZE);
+    }
+
+    public MongoArrowReader(ResultSet resultSet, BufferAllocator allocator, int batchSize)
+            throws SQLException {
+        if (batchSize < 1) {
+            throw new SQLException("The batch size must be greater than 0.");
+        }
+        if (!resultSet.isWrapperFor(MongoColumnarResultSet.class)) {
+            throw new SQLException("The result set is not a MongoDB JDBC driver result set.");
+        }
+        this.columnarResultSet = resultSet.unwrap(MongoColumnarResultSet.class);
+        this.batchSize = batchSize;
+
+        MongoResultSetMetaData metaData =
+                resultSet.getMetaData().unwrap(MongoResultSetMetaData.class);
+        int columnCount = metaData.getColumnCount();
+        columnTypes = new BsonType[columnCount];
+        List<Field> fields = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            MongoColumnInfo columnInfo = metaData.getColumnInfo(i + 1);
+            BsonType bsonType = columnInfo.isPolymorphic() ? null : columnInfo.getBsonTypeEnum();
+            ArrowType arrowType = toArrowType(bsonType);
+            if (arrowType instanceof ArrowType.Utf8
+                    && bsonType != BsonType.DECIMAL128
+                    && bsonType != BsonType.OBJECT_ID) {
+                bsonType = null;
+            }
+            columnTypes[i] = bsonType;
+            boolean nullable = metaData.isNullable(i + 1) != ResultSetMetaData.columnNoNulls;
+            fields.add(
+                    new Field(
+                            metaData.getColumnLabel(i + 1),
+                            new FieldType(nullable, arrowType, null),
+                            null));
+        }
+        this.root = VectorSchemaRoot.create(new Schema(fields), allocator);
+        this.values = new BsonValue[batchSize];
+        this.strings = new String[batchSize];
+    }
+
+    private static ArrowType toArrowType(BsonType bsonType) {
+        if (bsonType == null) {
+            return ArrowType.Utf8.INSTANCE;
+        }
+        switch (bsonType) {
+            case INT32:
+                return new ArrowType.Int(32, true);
+            case INT64:
+                return new ArrowType.Int(64, true);
+            case DOUBLE:
+                return new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+            case BOOLEAN:
+                return ArrowType.Bool.INSTANCE;
+            case DATE_TIME:
+                return new ArrowType.Timestamp(TimeUnit.MILLISECOND, "UTC");
+            case BINARY:
+                return ArrowType.Binary.INSTANCE;
+            default:
+                return ArrowType.Utf8.INSTANCE;
+        }
+    }
+
+    public Schema getSchema() {
+        return root.getSchema();
+    }
+
+    /**
+     * @return the root holding the current batch. The same root is reloaded by every call to
+     *     {@link #loadNextBatch()}.
+     */
+    public VectorSchemaRoot getVectorSchemaRoot() {
+        return root;
+    }
+
+    /**
+     * Loads the next batch of rows into the vector schema root.
+     *
+     * @return true if a batch was loaded, false if there are no more rows.
+     * @throws SQLException if the rows cannot be read, or a value does not match the type of its
+     *     column.
+     */
+    public boolean loadNextBatch() throws SQLException {
+        int rowCount = columnarResultSet.nextBatch(batchSize);
+        for (int i = 0; i < columnTypes.length; i++) {
+            FieldVector vector = root.getVector(i);
+            vector.setInitialCapacity(rowCount);
+            vector.allocateNew();
+            try {
+                if (columnTypes[i] == null) {
+                    columnarResultSet.getStrings(i + 1, strings, nulls);
+                    writeStrings((VarCharVector) vector, rowCount);
+                } else {
+                    columnarResultSet.getBsonValues(i + 1, values, nulls);
+                    writeValues(columnTypes[i], vector, rowCount);
+                }
+            } catch (BSONException e) {
+                throw new SQLException(
+                        "Failed to write column '"
+                                + vector.getName()
+                                + "' to Arrow. Root cause: "
+                                + e.getMessage(),
+                        e);
+            }
+        }
+        root.setRowCount(rowCount);
+        return rowCount > 0;
+    }
+
+    private void writeStrings(VarCharVector vector, int rowCount) {
+        for (int i = 0; i < rowCount; i++) {
+            if (nulls.get(i)) {
+                vector.setNull(i);
+            } else {
+                vector.setSafe(i, strings[i].getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private void writeValues(BsonType bsonType, FieldVector vector, int rowCount) {
+        switch (bsonType) {
+            case INT32:
+                {
+                    IntVector v = (IntVector) vector;
+                    for (int i = 0; i < rowCount; i++) {
+                        if (nulls.get(i)) {
+                            v.setNull(i);
+                        } else {
+                            v.setSafe(i, values[i].asNumber().intValue());
+                        }
+                    }
+                    break;
+                }
+            case INT64:
+                {
+                    BigIntVector v = (BigIntVector) vector;
+                    for (int i = 0; i < rowCount; i++) {
+                        if (nulls.get(i)) {
+                            v.setNull(i);
+                        } else {
+                            v.setSafe(i, values[i].asNumber().longValue());
+                        }
+                    }
+                    break;
+                }
+            case DOUBLE:
+                {
+                    Float8Vector v = (Float8Vector) vector;
+                    for (int i = 0; i < rowCount; i++) {
+                        if (nulls.get(i)) {
+                            v.setNull(i);
+                        } else {
+                            v.setSafe(i, values[i].asNumber().doubleValue());
+                        }
+                    }
+                    break;
+                }
+            case BOOLEAN:
+                {
+                    BitVector v = (BitVector) vector;
+                    for (int i = 0; i < rowCount; i++) {
+                        if (nulls.get(i)) {
+                            v.setNull(i);
+                        } else {
+                            v.setSafe(i, values[i].asBoolean().getValue() ? 1 : 0);
+                        }
+                    }
+                    break;
+                }
+            case DATE_TIME:
+                {
+                    TimeStampMilliTZVector v = (TimeStampMilliTZVector) vector;
+                    for (int i = 0; i < rowCount; i++) {
+                        if (nulls.get(i)) {
+                            v.setNull(i);
+                        } else {
+                            v.setSafe(i, values[i].asDateTime().getValue());
+                        }
+                    }
+                    break;
+                }
+            case BINARY:
+                {
+                    VarBinaryVector v = (VarBinaryVector) vector;
+                    for (int i = 0; i < rowCount; i++) {
+                        if (nulls.get(i)) {
+                            v.setNull(i);
+                        } else {
+                            v.setSafe(i, values[i].asBinary().getData());
+                        }
+                    }
+                    break;
+                }
+            case DECIMAL128:
+                {
+                    VarCharVector v = (VarCharVector) vector;
+                    for (int i = 0; i < rowCount; i++) {
+                        if (nulls.get(i)) {
+                            v.setNull(i);
+                        } else {
+                            String s = values[i].asDecimal128().getValue().toString();
+                            v.setSafe(i, s.getBytes(StandardCharsets.UTF_8));
+                        }
+                    }
+                    break;
+                }
+            case OBJECT_ID:
+                {
+                    VarCharVector v = (VarCharVector) vector;
+                    for (int i = 0; i < rowCount; i++) {
+                        if (nulls.get(i)) {
+                            v.setNull(i);
+                        } else {
+                            String s = values[i].asObjectId().getValue().toHexString();
+                            v.setSafe(i, s.getBytes(StandardCharsets.UTF_8));
+                        }
+                    }
+                    break;
+                }
+            default:
+                throw new IllegalStateException("Unexpected column type " + bsonType);
+        }
+    }
+
+    /** Releases the vectors. The result set is not closed. */
+    @Override
+    public void close() {
+        root.close();
+    }
+}
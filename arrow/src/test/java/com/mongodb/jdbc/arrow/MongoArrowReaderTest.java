@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc.arrow;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.mongodb.jdbc.MongoColumnInfo;
+import com.mongodb.jdbc.MongoColumnarResultSet;
+import com.mongodb.jdbc.MongoResultSetMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.BitSet;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.bson.BsonInt64;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.junit.jupiter.api.Test;
+
+class MongoArrowReaderTest {
+
+    private static MongoColumnInfo columnInfo(BsonType bsonType, boolean isPolymorphic) {
+        MongoColumnInfo columnInfo = mock(MongoColumnInfo.class);
+        when(columnInfo.getBsonTypeEnum()).thenReturn(bsonType);
+        when(columnInfo.isPolymorphic()).thenReturn(isPolymorphic);
+        return columnInfo;
+    }
+
+    @Test
+    void testLoadBatches() throws Exception {
+        ResultSet resultSet =
+                mock(ResultSet.class, withSettings().extraInterfaces(MongoColumnarResultSet.class));
+        MongoColumnarResultSet columnar = (MongoColumnarResultSet) resultSet;
+        when(resultSet.isWrapperFor(MongoColumnarResultSet.class)).thenReturn(true);
+        when(resultSet.unwrap(MongoColumnarResultSet.class)).thenReturn(columnar);
+
+        MongoResultSetMetaData metaData = mock(MongoResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.unwrap(MongoResultSetMetaData.class)).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(2);
+        MongoColumnInfo longColumn = columnInfo(BsonType.INT64, false);
+        MongoColumnInfo anyColumn = columnInfo(BsonType.UNDEFINED, true);
+        when(metaData.getColumnInfo(1)).thenReturn(longColumn);
+        when(metaData.getColumnInfo(2)).thenReturn(anyColumn);
+        when(metaData.getColumnLabel(1)).thenReturn("a");
+        when(metaData.getColumnLabel(2)).thenReturn("b");
+        when(metaData.isNullable(anyInt())).thenReturn(ResultSetMetaData.columnNullable);
+
+        when(columnar.nextBatch(2)).thenReturn(2, 0);
+        doAnswer(
+                        invocation -> {
+                            BsonValue[] values = invocation.getArgument(1);
+                            BitSet nulls = invocation.getArgument(2);
+                            values[0] = new BsonInt64(7);
+                            values[1] = null;
+                            nulls.clear();
+                            nulls.set(1);
+                            return null;
+                        })
+                .when(columnar)
+                .getBsonValues(eq(1), any(), any());
+        doAnswer(
+                        invocation -> {
+                            String[] values = invocation.getArgument(1);
+                            BitSet nulls = invocation.getArgument(2);
+                            values[0] = "x";
+                            values[1] = "{\"c\": 1}";
+                            nulls.clear();
+                            return null;
+                        })
+                .when(columnar)
+                .getStrings(eq(2), any(), any());
+
+        try (BufferAllocator allocator = new RootAllocator();
+                MongoArrowReader reader = new MongoArrowReader(resultSet, allocator, 2)) {
+            assertEquals(
+                    new ArrowType.Int(64, true), reader.getSchema().getFields().get(0).getType());
+            assertEquals(ArrowType.Utf8.INSTANCE, reader.getSchema().getFields().get(1).getType());
+
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            assertTrue(reader.loadNextBatch());
+            assertEquals(2, root.getRowCount());
+            BigIntVector a = (BigIntVector) root.getVector("a");
+            assertEquals(7L, a.get(0));
+            assertTrue(a.isNull(1));
+            VarCharVector b = (VarCharVector) root.getVector("b");
+            assertEquals("x", b.getObject(0).toString());
+            assertEquals("{\"c\": 1}", b.getObject(1).toString());
+
+            assertFalse(reader.loadNextBatch());
+            assertEquals(0, root.getRowCount());
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoIterable;
+import java.util.NoSuchElementException;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+
+/**
+ * AdaptiveBatchCursor picks the batch size of the cursors of a query. The driver API only sets the
+ * batch size when a cursor is opened, so the batch size adapts from one execution of a query to
+ * the next. While a cursor is read, the cursor works out the batch size its query should use: twice
+ * the current one while the getMore round trips take a noticeable part of the time spent per
+ * batch, and never more rows than fit in the memory limit, based on the average size of the rows.
+ * The next execution of the query opens its cursor with that batch size.
+ *
+ * <p>The first execution of a query keeps the server default batches, a small first batch so that
+ * the first rows arrive quickly and following batches of up to 16 MB, unless the memory limit is
+ * lower, in which case it starts with {@link #INITIAL_BATCH_SIZE} rows.
+ */
+final class AdaptiveBatchCursor<T extends BsonDocument> implements MongoCursor<T> {
+    // The number of rows of the first batches when the server default batches are too large.
+    static final int INITIAL_BATCH_SIZE = 64;
+    // The batch size grows while the getMore round trips take more than 1/FETCH_SHARE of the time
+    // spent per batch. Beyond that, larger batches use more memory without being much faster.
+    static final int FETCH_SHARE = 10;
+    // The maximum size of a batch returned by the server.
+    static final long MAX_SERVER_BATCH_BYTES = 16L * 1024 * 1024;
+
+    private final MongoCursor<T> cursor;
+    private final BatchSizeHistory history;
+    private final String query;
+    private final long memoryLimit;
+    // The batch size the next execution of the query should use, or 0 until a batch was read.
+    private int nextBatchSize = 0;
+
+    // The duration of the last round trip, and the time the last batch arrived at.
+    private long fetchNanos;
+    private long batchStartNanos;
+    // The number of rows of the last batch, and the largest batch size of the cursor, which the
+    // batch size of the next execution is based on, so that a short last batch does not shrink it.
+    private int batchRows;
+    private int largestBatchSize;
+    private long averageRowBytes = 0;
+    private boolean sampleNextRow = true;
+
+    AdaptiveBatchCursor(
+            MongoCursor<T> cursor,
+            BatchSizeHistory history,
+            String query,
+            int batchSize,
+            long fetchNanos,
+            long memoryLimit) {
+        this.cursor = cursor;
+        this.history = history;
+        this.query = query;
+        this.fetchNanos = fetchNanos;
+        this.memoryLimit = memoryLimit;
+        this.batchStartNanos = System.nanoTime();
+        this.batchRows = cursor.available();
+        this.largestBatchSize = Math.max(batchSize, batchRows);
+    }
+
+    /**
+     * Runs a query with the batch size learned from its previous executions.
+     *
+     * @param iterable The query.
+     * @param history The batch sizes learned for the queries of the connection.
+     * @param query The SQL text of the query.
+     * @param memoryLimit The maximum number of bytes of rows in a batch.
+     * @return the query cursor.
+     */
+    static <T extends BsonDocument> MongoCursor<T> open(
+            MongoIterable<T> iterable, BatchSizeHistory history, String query, long memoryLimit) {
+        int batchSize = history.get(query);
+        if (batchSize == 0 && memoryLimit < MAX_SERVER_BATCH_BYTES) {
+            batchSize = INITIAL_BATCH_SIZE;
+        }
+        if (batchSize != 0) {
+            iterable = iterable.batchSize(batchSize);
+        }
+        long start = System.nanoTime();
+        MongoCursor<T> cursor = iterable.cursor();
+        return new AdaptiveBatchCursor<>(
+                cursor, history, query, batchSize, System.nanoTime() - start, memoryLimit);
+    }
+
+    /**
+     * Computes the size of the next batch.
+     *
+     * @param batchSize The size of the last batch.
+     * @param averageRowBytes The average size of a row, in bytes.
+     * @param fetchNanos The duration of the round trip of the last batch.
+     * @param consumeNanos The time the application spent reading the last batch.
+     * @param memoryLimit The maximum number of bytes of rows in a batch.
+     * @return the size of the next batch.
+     */
+    static int nextBatchSize(
+            int batchSize,
+            long averageRowBytes,
+            long fetchNanos,
+            long consumeNanos,
+            long memoryLimit) {
+        long next = batchSize;
+        if (fetchNanos * FETCH_SHARE > consumeNanos) {
+            next = 2L * batchSize;
+        }
+        long maxBatchSize = memoryLimit / Math.max(1, averageRowBytes);
+        return (int) Math.max(1, Math.min(Math.min(next, maxBatchSize), Integer.MAX_VALUE));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (cursor.available() > 0) {
+            return true;
+        }
+        // The batch is consumed, work out the batch size the query should use from its timings.
+        long start = System.nanoTime();
+        if (batchRows > 0) {
+            nextBatchSize =
+                    nextBatchSize(
+                            largestBatchSize,
+                            averageRowBytes,
+                            fetchNanos,
+                            start - batchStartNanos,
+                            memoryLimit);
+        }
+        boolean hasNext = cursor.hasNext();
+        batchStartNanos = System.nanoTime();
+        fetchNanos = batchStartNanos - start;
+        batchRows = cursor.available();
+        largestBatchSize = Math.max(largestBatchSize, batchRows);
+        sampleNextRow = true;
+        if (!hasNext) {
+            recordBatchSize();
+        }
+        return hasNext;
+    }
+
+    private void recordBatchSize() {
+        if (nextBatchSize != 0) {
+            history.put(query, nextBatchSize);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T row = cursor.next();
+        if (sampleNextRow) {
+            // One row per batch is enough to follow the row size, and rows which are not raw
+            // have to be encoded to be measured.
+            sampleNextRow = false;
+            long rowBytes =
+                    (row instanceof RawBsonDocument
+                                    ? (RawBsonDocument) row
+                                    : new RawBsonDocument(row, new BsonDocumentCodec()))
+                            .getByteBuffer()
+                            .remaining();
+            averageRowBytes =
+                    averageRowBytes == 0 ? rowBytes : (3 * averageRowBytes + rowBytes) / 4;
+        }
+        return row;
+    }
+
+    @Override
+    public int available() {
+        return cursor.available();
+    }
+
+    @Override
+    public T tryNext() {
+        return hasNext() ? next() : null;
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return cursor.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return cursor.getServerAddress();
+    }
+
+    @Override
+    public void close() {
+        recordBatchSize();
+        cursor.close();
+    }
+
+    /** @return the batch size the next execution of the query should use, 0 if not known yet. */
+    int getNextBatchSize() {
+        return nextBatchSize;
+    }
+
+    /**
+     * BatchSizeHistory keeps the batch size learned for each query of a connection, for the
+     * {@link #HISTORY_SIZE} most recently run queries.
+     */
+    static final class BatchSizeHistory {
+        static final int HISTORY_SIZE = 1000;
+
+        private final Cache<String, Integer> batchSizes =
+                CacheBuilder.newBuilder().maximumSize(HISTORY_SIZE).build();
+
+        /** @return the batch size learned for a query, or 0 if it is not known. */
+        int get(String query) {
+            Integer batchSize = batchSizes.getIfPresent(query);
+            return batchSize == null ? 0 : batchSize;
+        }
+
+        void put(String query, int batchSize) {
+            batchSizes.put(query, batchSize);
+        }
+    }
+}
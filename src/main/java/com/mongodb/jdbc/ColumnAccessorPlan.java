@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+/**
+ * ColumnAccessorPlan resolves the (datasource, field) location of every result set column once,
+ * from the result set metadata, so that reading a cell is an array access instead of a metadata
+ * lookup followed by two document lookups.
+ *
+ * <p>The plan also caches, for the current row, the datasource sub-documents which have already
+ * been looked up. A row is usually read column by column, and most columns of a row share the
+ * same few datasources.
+ */
+final class ColumnAccessorPlan {
+    // The distinct datasource names, indexed by datasource slot.
+    private final String[] datasources;
+    // The datasource slot of each column, indexed by zero-based column index.
+    private final int[] columnDatasources;
+    // The field name of each column, indexed by zero-based column index.
+    private final String[] columnFields;
+    // The JDBC type of each column, indexed by zero-based column index.
+    private final int[] columnTypes;
+
+    // The current row and the datasource sub-documents resolved for it so far.
+    private BsonDocument row;
+    private final BsonDocument[] rowDatasources;
+
+    ColumnAccessorPlan(MongoResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        List<String> datasourceNames = new ArrayList<>();
+        columnDatasources = new int[columnCount];
+        columnFields = new String[columnCount];
+        columnTypes = new int[columnCount];
+
+        for (int i = 0; i < columnCount; i++) {
+            MongoColumnInfo columnInfo = metaData.getColumnInfo(i + 1);
+            int slot = datasourceNames.indexOf(columnInfo.getTableName());
+            if (slot < 0) {
+                slot = datasourceNames.size();
+                datasourceNames.add(columnInfo.getTableName());
+            }
+            columnDatasources[i] = slot;
+            columnFields[i] = columnInfo.getColumnName();
+            columnTypes[i] = columnInfo.getJDBCType();
+        }
+
+        datasources = datasourceNames.toArray(new String[0]);
+        rowDatasources = new BsonDocument[datasources.length];
+    }
+
+    int getColumnCount() {
+        return columnFields.length;
+    }
+
+    /**
+     * @param columnIndex The one-based column index.
+     * @return the JDBC type of the column.
+     */
+    int getColumnType(int columnIndex) {
+        return columnTypes[columnIndex - 1];
+    }
+
+    /**
+     * Moves the plan to a new row, discarding the datasources resolved for the previous one.
+     *
+     * @param row The new current row.
+     */
+    void setRow(BsonDocument row) {
+        this.row = row;
+        Arrays.fill(rowDatasources, null);
+    }
+
+    /**
+     * Returns the value of a column in the current row. The caller is responsible for checking that
+     * there is a current row and that the column index is in bounds.
+     *
+     * @param columnIndex The one-based column index.
+     * @return the column value, or null if the field or its datasource is missing from the row.
+     */
+    BsonValue get(int columnIndex) {
+        int slot = columnDatasources[columnIndex - 1];
+        BsonDocument datasource = rowDatasources[slot];
+        if (datasource == null) {
+            BsonValue datasourceValue = row.get(datasources[slot]);
+            if (datasourceValue == null) {
+                return null;
+            }
+            datasource = datasourceValue.asDocument();
+            rowDatasources[slot] = datasource;
+        }
+        return datasource.get(columnFields[columnIndex - 1]);
+    }
+
+    /**
+     * Returns the value of a column in any row, without using or changing the current row.
+     *
+     * @param row The row.
+     * @param columnIndex The one-based column index.
+     * @return the column value, or null if the field or its datasource is missing from the row.
+     */
+    BsonValue get(BsonDocument row, int columnIndex) {
+        BsonValue datasource = row.get(datasources[columnDatasources[columnIndex - 1]]);
+        if (datasource == null) {
+            return null;
+        }
+        return datasource.asDocument().get(columnFields[columnIndex - 1]);
+    }
+}
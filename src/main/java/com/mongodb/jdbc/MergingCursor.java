@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import com.mongodb.MongoException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.jdbc.utils.MongoThreads;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MergingCursor reads several cursors in parallel, one background thread per cursor, and returns
+ * their rows as they arrive. The rows of a cursor keep their order, but the rows of different
+ * cursors are interleaved in no particular order. Batches are handed over through a bounded queue,
+ * which stops the background threads when the application falls behind. An error of any cursor
+ * is raised by hasNext() or next(), once the batches queued before it have been consumed, and
+ * stops the other cursors. A hasNext() or next() waiting for a batch when another thread closes
+ * the cursor throws an IllegalStateException, rather than report the end of the rows. {@link
+ * PrefetchingCursor} is the case of a single cursor.
+ *
+ * <p>The background threads are virtual threads on JDK 21 and later, and daemon platform threads
+ * otherwise. Each one is the only thread reading its cursor. close() closes the cursors without
+ * interrupting the background threads, so that the getMores in progress complete and their
+ * connections go back to the pool instead of being closed.
+ */
+class MergingCursor<T> implements MongoCursor<T> {
+    // The number of batches read ahead per cursor.
+    static final int QUEUE_CAPACITY_PER_CURSOR = 2;
+    private static final String THREAD_NAME = "mongodb-jdbc-partition";
+    // Marks the end of a cursor in the queue.
+    private static final Object END = new Object();
+    // Wakes up a consumer waiting for a batch when the cursor is closed.
+    private static final Object CLOSED = new Object();
+    // How often the background threads check whether the cursor was closed while the queue is full.
+    private static final long OFFER_TIMEOUT_MS = 100;
+
+    private final List<? extends MongoCursor<? extends T>> cursors;
+    private final BlockingQueue<Object> queue;
+    private volatile boolean closed = false;
+
+    // The batch being consumed, and the index of the next row in it.
+    private List<T> batch = Collections.emptyList();
+    private int batchIndex = 0;
+    // The number of cursors which did not reach their end.
+    private int remainingCursors;
+    private RuntimeException failure;
+
+    /** @param cursors The cursors to read, which must not be used by anything else. */
+    MergingCursor(List<? extends MongoCursor<? extends T>> cursors) {
+        this(cursors, Math.max(1, cursors.size() * QUEUE_CAPACITY_PER_CURSOR), THREAD_NAME);
+    }
+
+    /**
+     * @param cursors The cursors to read, which must not be used by anything else.
+     * @param queueCapacity The number of batches read ahead of the batch being consumed.
+     * @param threadName The name of the background threads.
+     */
+    MergingCursor(
+            List<? extends MongoCursor<? extends T>> cursors,
+            int queueCapacity,
+            String threadName) {
+        this.cursors = cursors;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.remainingCursors = cursors.size();
+        for (MongoCursor<? extends T> cursor : cursors) {
+            MongoThreads.newThread(() -> read(cursor), threadName).start();
+        }
+    }
+
+    // Runs on the background thread of a cursor.
+    private void read(MongoCursor<? extends T> cursor) {
+        try {
+            while (!closed && cursor.hasNext()) {
+                // hasNext() fetched the batch if needed, the rows available are read without a
+                // round trip.
+                int size = Math.max(1, cursor.available());
+                List<T> rows = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    rows.add(cursor.next());
+                }
+                enqueue(rows);
+            }
+            enqueue(END);
+        } catch (InterruptedException e) {
+            // The thread was interrupted, stop reading.
+        } catch (Throwable t) {
+            if (!closed) {
+                try {
+                    enqueue(t);
+                } catch (InterruptedException e) {
+                    // The thread was interrupted, stop reading.
+                }
+            }
+        } finally {
+            try {
+                cursor.close();
+            } catch (RuntimeException e) {
+                // Nothing is waiting for this cursor anymore.
+            }
+        }
+    }
+
+    private void enqueue(Object item) throws InterruptedException {
+        while (!closed) {
+            if (queue.offer(item, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Waits for a batch if the current one is consumed.
+     *
+     * @return true if there is a row to consume, false at the end of all the cursors.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean fill() {
+        if (failure != null) {
+            throw failure;
+        }
+        while (batchIndex >= batch.size()) {
+            if (remainingCursors == 0 || closed) {
+                return false;
+            }
+            Object item;
+            try {
+                item = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MongoInterruptedException("Interrupted while waiting for rows", e);
+            }
+            if (item == CLOSED || closed) {
+                throw new IllegalStateException("The cursor was closed while waiting for rows");
+            } else if (item == END) {
+                remainingCursors--;
+            } else if (item instanceof Throwable) {
+                Throwable t = (Throwable) item;
+                failure =
+                        t instanceof RuntimeException
+                                ? (RuntimeException) t
+                                : new MongoException("Failed to read the cursor", t);
+                close();
+                throw failure;
+            } else {
+                batch = (List<T>) item;
+                batchIndex = 0;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return fill();
+    }
+
+    @Override
+    public T next() {
+        if (!fill()) {
+            throw new NoSuchElementException();
+        }
+        return batch.get(batchIndex++);
+    }
+
+    /** @return the number of rows which can be read without waiting for the background threads. */
+    @Override
+    public int available() {
+        return batch.size() - batchIndex;
+    }
+
+    /** Waits for the next row like next(), but returns null at the end of the cursors. */
+    @Override
+    public T tryNext() {
+        return fill() ? next() : null;
+    }
+
+    /** @return the server cursor of the first cursor. */
+    @Override
+    public ServerCursor getServerCursor() {
+        return cursors.isEmpty() ? null : cursors.get(0).getServerCursor();
+    }
+
+    /** @return the server address of the first cursor. */
+    @Override
+    public ServerAddress getServerAddress() {
+        return cursors.isEmpty() ? null : cursors.get(0).getServerAddress();
+    }
+
+    /**
+     * Closes the cursors. The driver lets a cursor be closed while a getMore is in progress, the
+     * server cursor is then killed once the getMore returns. The background threads stop as soon
+     * as they see their cursor closed, and a consumer waiting for a batch is woken up.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.clear();
+        // The queue is only full if a background thread queued a batch since the clear, which
+        // wakes up the consumer as well.
+        queue.offer(CLOSED);
+        batch = Collections.emptyList();
+        for (MongoCursor<? extends T> cursor : cursors) {
+            try {
+                cursor.close();
+            } catch (RuntimeException e) {
+                // The background thread closes the cursor again when it stops.
+            }
+        }
+    }
+}
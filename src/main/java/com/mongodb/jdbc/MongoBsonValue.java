@@ -17,6 +17,9 @@
 package com.mongodb.jdbc;
 
 import java.io.StringWriter;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 import java.util.UUID;
 import org.bson.BsonBinary;
@@ -40,27 +43,31 @@ import org.bson.json.JsonWriterSettings;
  * does not extend BsonValue, instead it contains a BsonValue member.
  */
 public class MongoBsonValue {
-    private JsonWriterSettings JSON_WRITER_SETTINGS;
+    // JsonWriterSettings are immutable and can be shared by all values and threads.
+    private static final JsonWriterSettings EXTENDED_JSON_WRITER_SETTINGS =
+            JsonWriterSettings.builder().outputMode(JsonMode.EXTENDED).build();
+    private static final JsonWriterSettings RELAXED_JSON_WRITER_SETTINGS =
+            JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build();
     static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
     static final BsonValueCodec CODEC = new BsonValueCodec();
 
+    // The last millisecond of the year 9999. Relaxed extended JSON only uses the ISO-8601 date
+    // representation for dates between the epoch and this value.
+    private static final long LAST_MS_OF_YEAR_9999 = 253402300799999L;
+
     private final UuidRepresentation uuidRepresentation;
-    private final boolean extJsonMode;
+    private boolean extJsonMode;
 
     private BsonValue v;
 
     public MongoBsonValue(BsonValue v, boolean isExtended, UuidRepresentation uuidRepresentation) {
         this.v = v;
-        this.setJsonWriterSettings(isExtended);
         this.extJsonMode = isExtended;
         this.uuidRepresentation = uuidRepresentation;
     }
 
     public void setJsonWriterSettings(boolean isExtended) {
-        this.JSON_WRITER_SETTINGS =
-                JsonWriterSettings.builder()
-                        .outputMode(isExtended ? JsonMode.EXTENDED : JsonMode.RELAXED)
-                        .build();
+        this.extJsonMode = isExtended;
     }
 
     /** @return The underlying BsonValue */
@@ -70,11 +77,26 @@ public class MongoBsonValue {
 
     @Override
     public String toString() {
-        if (this.v == null) {
+        return toString(this.v, this.extJsonMode, this.uuidRepresentation);
+    }
+
+    /**
+     * Produces the same output as {@code new MongoBsonValue(v, isExtended,
+     * uuidRepresentation).toString()} without allocating the wrapper. Scalars, ObjectIds, dates and
+     * UUIDs are formatted directly, the other types are written with a JsonWriter.
+     *
+     * @param v The value to stringify.
+     * @param isExtended True for the extended JSON representation, false for the relaxed one.
+     * @param uuidRepresentation The representation used to decode legacy UUIDs.
+     * @return the string representation of the value, or null for NULL and UNDEFINED values.
+     */
+    public static String toString(
+            BsonValue v, boolean isExtended, UuidRepresentation uuidRepresentation) {
+        if (v == null) {
             return null;
         }
 
-        switch (this.v.getBsonType()) {
+        switch (v.getBsonType()) {
             case NULL:
                 return null;
             case UNDEFINED:
@@ -86,88 +108,126 @@ public class MongoBsonValue {
                 // delimited by double quotes. We do not want to include
                 // those quotes in the output of this method, so we simply
                 // return the underlying String value.
-                return this.v.asString().getValue();
+                return v.asString().getValue();
             case BINARY:
-                BsonBinary binary = this.v.asBinary();
+                BsonBinary binary = v.asBinary();
                 if (binary.getType() == BsonBinarySubType.UUID_STANDARD.getValue()
                         || binary.getType() == BsonBinarySubType.UUID_LEGACY.getValue()) {
-                    return formatUuid(binary);
+                    return formatUuid(binary, isExtended, uuidRepresentation);
                 }
-                // Fall through to toExtendedJson(this.v) for other binary types
+                // Fall through to toExtendedJson(v) for other binary types
 
             case ARRAY:
-            case DATE_TIME:
             case DB_POINTER:
-            case DECIMAL128:
             case DOCUMENT:
             case JAVASCRIPT:
             case JAVASCRIPT_WITH_SCOPE:
             case MAX_KEY:
             case MIN_KEY:
-            case OBJECT_ID:
             case REGULAR_EXPRESSION:
             case SYMBOL:
             case TIMESTAMP:
                 // These types are stringified in extended JSON format.
-                return toExtendedJson(this.v);
+                return toExtendedJson(v, isExtended);
 
+            // The following types are formatted directly, producing the same output as the
+            // Java driver's JsonWriter.
             case BOOLEAN:
-            case DOUBLE:
+                return v.asBoolean().getValue() ? "true" : "false";
             case INT32:
+                {
+                    String value = Integer.toString(v.asInt32().getValue());
+                    return isExtended ? "{\"$numberInt\": \"" + value + "\"}" : value;
+                }
             case INT64:
-                // These types are also stringified in extended JSON
-                // format. However, they cannot be written by the Java
-                // driver's JsonWriter as top-level values, so we must
-                // nest them in a document.
-                BsonValue v = new BsonDocument("v", this.v);
-                String s = toExtendedJson(v);
-
-                // Substring starts at 6 because the extended JSON for
-                // the document is:
-                //   {"v": <this.v as extJSON>}
-                // so the first 5 characters are '{"v": ' and the
-                // actual value's serialization starts at position 6.
-                // The actual value's serialization ends 1 character
-                // before the end, to account for the closing '}'.
-                return s.substring(6, s.length() - 1);
+                {
+                    String value = Long.toString(v.asInt64().getValue());
+                    return isExtended ? "{\"$numberLong\": \"" + value + "\"}" : value;
+                }
+            case DOUBLE:
+                {
+                    double value = v.asDouble().getValue();
+                    if (!isExtended && !Double.isNaN(value) && !Double.isInfinite(value)) {
+                        return Double.toString(value);
+                    }
+                    // The extended representation of doubles and the non-finite values are
+                    // left to the JsonWriter.
+                    return toTopLevelExtendedJson(v, isExtended);
+                }
+            case DECIMAL128:
+                return "{\"$numberDecimal\": \"" + v.asDecimal128().getValue() + "\"}";
+            case OBJECT_ID:
+                return "{\"$oid\": \"" + v.asObjectId().getValue().toHexString() + "\"}";
+            case DATE_TIME:
+                {
+                    long value = v.asDateTime().getValue();
+                    if (!isExtended && value >= 0 && value <= LAST_MS_OF_YEAR_9999) {
+                        return "{\"$date\": \""
+                                + DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(
+                                        Instant.ofEpochMilli(value).atOffset(ZoneOffset.UTC))
+                                + "\"}";
+                    }
+                    return "{\"$date\": {\"$numberLong\": \"" + value + "\"}}";
+                }
 
             case END_OF_DOCUMENT:
             default:
-                return this.v.toString();
+                return v.toString();
         }
     }
 
     // Formats a BSON binary object into a JSON string representation of a UUID.
     // If the BSON binary type is UUID_STANDARD, it directly converts it to a UUID.
     // Otherwise, it uses the specified or default UUID representation to decode the binary data.
-    private String formatUuid(BsonBinary binary) {
+    private static String formatUuid(
+            BsonBinary binary, boolean isExtended, UuidRepresentation uuidRepresentation) {
         UUID uuid;
         byte binaryType = binary.getType();
         if (binaryType == BsonBinarySubType.UUID_STANDARD.getValue()) {
             uuid = binary.asUuid();
         } else {
-            // When this.uuidRepresentation is UNSPECIFIED or null, set UuidRepresentation to PYTHON_LEGACY
+            // When uuidRepresentation is UNSPECIFIED or null, set UuidRepresentation to PYTHON_LEGACY
             UuidRepresentation representationToUse =
-                    (Objects.nonNull(this.uuidRepresentation)
-                                    && this.uuidRepresentation != UuidRepresentation.UNSPECIFIED)
-                            ? this.uuidRepresentation
+                    (Objects.nonNull(uuidRepresentation)
+                                    && uuidRepresentation != UuidRepresentation.UNSPECIFIED)
+                            ? uuidRepresentation
                             : UuidRepresentation.PYTHON_LEGACY;
             if (binaryType == BsonBinarySubType.UUID_LEGACY.getValue()
                     && representationToUse == UuidRepresentation.STANDARD) {
                 // UUID_LEGACY subtype and trying to get the standard representation causes a BSONException,
                 // So we return the binary representation extended JSON instead
-                return toExtendedJson(binary);
+                return toExtendedJson(binary, isExtended);
             }
             uuid =
                     UuidHelper.decodeBinaryToUuid(
                             binary.getData(), binary.getType(), representationToUse);
         }
-        return String.format("{\"$uuid\":\"%s\"}", uuid.toString());
+        return "{\"$uuid\":\"" + uuid + "\"}";
+    }
+
+    // Writes a value which the JsonWriter cannot write as a top-level value by nesting it in a
+    // document and stripping the document from the output.
+    private static String toTopLevelExtendedJson(BsonValue v, boolean isExtended) {
+        String s = toExtendedJson(new BsonDocument("v", v), isExtended);
+
+        // Substring starts at 6 because the extended JSON for
+        // the document is:
+        //   {"v": <v as extJSON>}
+        // so the first 5 characters are '{"v": ' and the
+        // actual value's serialization starts at position 6.
+        // The actual value's serialization ends 1 character
+        // before the end, to account for the closing '}'.
+        return s.substring(6, s.length() - 1);
     }
 
-    private String toExtendedJson(BsonValue v) {
+    private static String toExtendedJson(BsonValue v, boolean isExtended) {
         StringWriter w = new StringWriter();
-        CODEC.encode(new NoCheckStateJsonWriter(w, JSON_WRITER_SETTINGS), v, ENCODER_CONTEXT);
+        CODEC.encode(
+                new NoCheckStateJsonWriter(
+                        w,
+                        isExtended ? EXTENDED_JSON_WRITER_SETTINGS : RELAXED_JSON_WRITER_SETTINGS),
+                v,
+                ENCODER_CONTEXT);
         w.flush();
         return w.toString();
     }
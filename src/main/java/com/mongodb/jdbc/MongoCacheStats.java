@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+/** MongoCacheStats is a snapshot of the usage counters of one of the driver caches. */
+public final class MongoCacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long size;
+
+    public MongoCacheStats(long hitCount, long missCount, long evictionCount, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /** @return the number of lookups which found an entry. */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /** @return the number of lookups which did not find an entry. */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /** @return the number of entries removed because the cache was full or they expired. */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /** @return the number of entries in the cache. */
+    public long getSize() {
+        return size;
+    }
+
+    /** @return the ratio of lookups which found an entry, or 1 if there was no lookup. */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "MongoCacheStats{hitCount="
+                + hitCount
+                + ", missCount="
+                + missCount
+                + ", evictionCount="
+                + evictionCount
+                + ", size="
+                + size
+                + "}";
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import java.sql.SQLException;
+import java.util.BitSet;
+import org.bson.BsonValue;
+
+/**
+ * MongoColumnarResultSet reads a result set a batch of rows at a time, one column at a time, into
+ * caller supplied arrays. It avoids the per cell overhead of the JDBC getters for applications
+ * which read many rows. It is obtained from a result set with {@code
+ * resultSet.unwrap(MongoColumnarResultSet.class)}.
+ *
+ * <p>A batch is read with {@link #nextBatch(int)}, then each column of interest is copied out of
+ * the batch with one of the get methods. Values are converted the same way as by the
+ * corresponding JDBC getter. Null and undefined values set the row's bit in the null bitmap and
+ * leave the default value (0 or null) in the array.
+ */
+public interface MongoColumnarResultSet {
+
+    /**
+     * Reads up to batchRows rows from the result set into the current batch, replacing the
+     * previous batch. Afterwards, the result set is positioned on the last row of the batch.
+     *
+     * @param batchRows The maximum number of rows to read.
+     * @return the number of rows in the batch, or 0 if there are no more rows.
+     * @throws SQLException if the result set is closed or the rows cannot be read.
+     */
+    int nextBatch(int batchRows) throws SQLException;
+
+    /**
+     * Copies a column of the current batch as longs.
+     *
+     * @param columnIndex The one-based column index.
+     * @param values The array to fill, at least as large as the batch.
+     * @param nulls The null bitmap to fill. The bit of each row with a null value is set.
+     * @throws SQLException if a value cannot be converted to a long.
+     */
+    void getLongs(int columnIndex, long[] values, BitSet nulls) throws SQLException;
+
+    /**
+     * Copies a column of the current batch as ints.
+     *
+     * @param columnIndex The one-based column index.
+     * @param values The array to fill, at least as large as the batch.
+     * @param nulls The null bitmap to fill. The bit of each row with a null value is set.
+     * @throws SQLException if a value cannot be converted to an int.
+     */
+    void getInts(int columnIndex, int[] values, BitSet nulls) throws SQLException;
+
+    /**
+     * Copies a column of the current batch as doubles.
+     *
+     * @param columnIndex The one-based column index.
+     * @param values The array to fill, at least as large as the batch.
+     * @param nulls The null bitmap to fill. The bit of each row with a null value is set.
+     * @throws SQLException if a value cannot be converted to a double.
+     */
+    void getDoubles(int columnIndex, double[] values, BitSet nulls) throws SQLException;
+
+    /**
+     * Copies a column of the current batch as strings.
+     *
+     * @param columnIndex The one-based column index.
+     * @param values The array to fill, at least as large as the batch.
+     * @param nulls The null bitmap to fill. The bit of each row with a null value is set.
+     * @throws SQLException if the result set is closed or the column index is out of bounds.
+     */
+    void getStrings(int columnIndex, String[] values, BitSet nulls) throws SQLException;
+
+    /**
+     * Copies a column of the current batch as BSON values, without converting them. Missing, null
+     * and undefined values are set to null.
+     *
+     * @param columnIndex The one-based column index.
+     * @param values The array to fill, at least as large as the batch.
+     * @param nulls The null bitmap to fill. The bit of each row with a null value is set.
+     * @throws SQLException if the result set is closed or the column index is out of bounds.
+     */
+    void getBsonValues(int columnIndex, BsonValue[] values, BitSet nulls) throws SQLException;
+}
@@ -35,6 +35,8 @@ import com.mongodb.jdbc.logging.MongoLogger;
 import com.mongodb.jdbc.logging.MongoSimpleFormatter;
 import com.mongodb.jdbc.mongosql.MongoSQLException;
 import com.mongodb.jdbc.mongosql.MongoSQLTranslate;
+import com.mongodb.jdbc.mongosql.SchemaCatalogCache;
+import com.mongodb.jdbc.mongosql.TranslationCache;
 import com.mongodb.jdbc.oidc.JdbcOidcCallback;
 import com.mongodb.jdbc.utils.X509Authentication;
 import java.io.File;
@@ -72,6 +74,18 @@ public class MongoConnection implements Connection {
     private static Map<String, FileHandler> fileHandlers = new HashMap<String, FileHandler>();
     private String logDirPath;
     private boolean extJsonMode;
+    private boolean rawRowMode;
+    private long scrollBufferMemoryLimit;
+    private boolean cursorPrefetch;
+    private boolean adaptiveFetchSize;
+    private long adaptiveFetchMemoryLimit;
+    private final AdaptiveBatchCursor.BatchSizeHistory batchSizeHistory =
+            new AdaptiveBatchCursor.BatchSizeHistory();
+    private int scanPartitions;
+    private TranslationCache translationCache;
+    private SchemaCatalogCache schemaCatalogCache;
+    private ResultSchemaCache resultSchemaCache;
+    private QueryResultCache queryResultCache;
     private UuidRepresentation uuidRepresentation;
     private String appName;
     private MongoSQLTranslate mongosqlTranslate;
@@ -133,6 +147,28 @@ public class MongoConnection implements Connection {
         } else {
             this.mongoClient = mongoClient;
         }
+        this.translationCache =
+                TranslationCache.forClient(
+                        this.mongoClient,
+                        connectionProperties.getTranslationCacheSize(),
+                        connectionProperties.getTranslationCacheTtlSec());
+        if (connectionProperties.getSchemaCacheTtlSec() > 0) {
+            this.schemaCatalogCache =
+                    SchemaCatalogCache.forClient(
+                            this.mongoClient, connectionProperties.getSchemaCacheTtlSec());
+        }
+        if (connectionProperties.getResultSchemaCacheTtlSec() > 0) {
+            this.resultSchemaCache =
+                    ResultSchemaCache.forClient(
+                            this.mongoClient, connectionProperties.getResultSchemaCacheTtlSec());
+        }
+        if (connectionProperties.getResultCacheTtlSec() > 0) {
+            this.queryResultCache =
+                    QueryResultCache.forClient(
+                            this.mongoClient,
+                            connectionProperties.getResultCacheMemoryLimitMB() * 1024L * 1024L,
+                            connectionProperties.getResultCacheTtlSec());
+        }
     }
 
     public MongoConnection(MongoClient mongoClient, MongoConnectionProperties connectionProperties)
@@ -154,6 +190,14 @@ public class MongoConnection implements Connection {
         this.user = connectionProperties.getConnectionString().getUsername();
         this.currentDB = connectionProperties.getDatabase();
         this.extJsonMode = connectionProperties.getExtJsonMode();
+        this.rawRowMode = connectionProperties.getRawRowMode();
+        this.scrollBufferMemoryLimit =
+                connectionProperties.getScrollBufferMemoryLimitMB() * 1024L * 1024L;
+        this.cursorPrefetch = connectionProperties.getCursorPrefetch();
+        this.adaptiveFetchSize = connectionProperties.getAdaptiveFetchSize();
+        this.adaptiveFetchMemoryLimit =
+                connectionProperties.getAdaptiveFetchMemoryLimitMB() * 1024L * 1024L;
+        this.scanPartitions = connectionProperties.getScanPartitions();
         this.uuidRepresentation =
                 connectionProperties.getConnectionString().getUuidRepresentation();
         this.appName = buildAppName(connectionProperties);
@@ -366,6 +410,27 @@ public class MongoConnection implements Connection {
         }
     }
 
+    /**
+     * Executes a query without blocking the calling thread, on a new statement which is closed
+     * along with the result set. See {@link MongoStatement#executeQueryAsync(String)}.
+     *
+     * @param sql The SQL query.
+     * @return the future result set of the query.
+     * @throws SQLException if the connection is closed.
+     */
+    public CompletableFuture<ResultSet> executeQueryAsync(String sql) throws SQLException {
+        MongoStatement statement = (MongoStatement) createStatement();
+        statement.closeOnCompletion();
+        CompletableFuture<ResultSet> future = statement.executeQueryAsync(sql);
+        future.whenComplete(
+                (rs, t) -> {
+                    if (t != null) {
+                        statement.close();
+                    }
+                });
+        return future;
+    }
+
     protected int getDefaultConnectionValidationTimeoutSeconds() {
         return this.mongoClientSettings.getSocketSettings().getConnectTimeout(TimeUnit.SECONDS);
     }
@@ -374,6 +439,99 @@ public class MongoConnection implements Connection {
         return extJsonMode;
     }
 
+    boolean getRawRowMode() {
+        return rawRowMode;
+    }
+
+    /** @return the number of bytes of rows a scrollable result set keeps in memory. */
+    long getScrollBufferMemoryLimit() {
+        return scrollBufferMemoryLimit;
+    }
+
+    /** @return true if query cursors are read ahead on a background thread. */
+    boolean getCursorPrefetch() {
+        return cursorPrefetch;
+    }
+
+    /** @return true if the batch size of queries without a fetch size adapts to the rows. */
+    boolean getAdaptiveFetchSize() {
+        return adaptiveFetchSize;
+    }
+
+    /** @return the maximum number of bytes of rows in a batch in adaptive fetch size mode. */
+    long getAdaptiveFetchMemoryLimit() {
+        return adaptiveFetchMemoryLimit;
+    }
+
+    /** @return the batch sizes learned for the queries of the connection. */
+    AdaptiveBatchCursor.BatchSizeHistory getBatchSizeHistory() {
+        return batchSizeHistory;
+    }
+
+    /**
+     * @return the number of parallel aggregates a direct cluster query scanning a collection is
+     *     split into, 0 or 1 if scans are not split.
+     */
+    int getScanPartitions() {
+        return scanPartitions;
+    }
+
+    TranslationCache getTranslationCache() {
+        return translationCache;
+    }
+
+    /**
+     * Returns the usage counters of the query translation cache. The cache is shared by all the
+     * connections using the same client.
+     *
+     * @return the translation cache counters.
+     */
+    public MongoCacheStats getTranslationCacheStats() {
+        return translationCache.getStats();
+    }
+
+    /**
+     * @return the cache of the Atlas Data Federation result schemas of the client, or null if
+     *     they are not cached.
+     */
+    ResultSchemaCache getResultSchemaCache() {
+        return resultSchemaCache;
+    }
+
+    /**
+     * Returns the usage counters of the Atlas Data Federation result schema cache. The cache is
+     * shared by all the connections using the same client.
+     *
+     * @return the result schema cache counters.
+     */
+    public MongoCacheStats getResultSchemaCacheStats() {
+        return resultSchemaCache == null
+                ? new MongoCacheStats(0, 0, 0, 0)
+                : resultSchemaCache.getStats();
+    }
+
+    /** @return the query result cache of the client, or null if results are not cached. */
+    QueryResultCache getQueryResultCache() {
+        return queryResultCache;
+    }
+
+    /**
+     * Returns the usage counters of the query result cache. The cache is shared by all the
+     * connections using the same client.
+     *
+     * @return the query result cache counters.
+     */
+    public MongoCacheStats getQueryResultCacheStats() {
+        return queryResultCache == null
+                ? new MongoCacheStats(0, 0, 0, 0)
+                : queryResultCache.getStats();
+    }
+
+    /** @return the schema catalog cache of the client, or null if schemas are not cached. */
+    SchemaCatalogCache getSchemaCatalogCache() {
+        return schemaCatalogCache;
+    }
+
     UuidRepresentation getUuidRepresentation() {
         return uuidRepresentation;
     }
@@ -527,6 +685,14 @@ public class MongoConnection implements Connection {
         if (resultSetType == ResultSet.TYPE_FORWARD_ONLY
                 && resultSetConcurrency == ResultSet.CONCUR_READ_ONLY) {
             return createStatement();
+        } else if (resultSetType == ResultSet.TYPE_SCROLL_INSENSITIVE
+                && resultSetConcurrency == ResultSet.CONCUR_READ_ONLY) {
+            checkConnection();
+            try {
+                return new MongoStatement(this, currentDB, resultSetType);
+            } catch (IllegalArgumentException e) {
+                throw new SQLException(e);
+            }
         } else {
             throw new SQLFeatureNotSupportedException(
                     Thread.currentThread().getStackTrace()[1].toString());
@@ -539,6 +705,15 @@ public class MongoConnection implements Connection {
         if (resultSetType == ResultSet.TYPE_FORWARD_ONLY
                 && resultSetConcurrency == ResultSet.CONCUR_READ_ONLY) {
             return prepareStatement(sql);
+        } else if (resultSetType == ResultSet.TYPE_SCROLL_INSENSITIVE
+                && resultSetConcurrency == ResultSet.CONCUR_READ_ONLY) {
+            checkConnection();
+            try {
+                return new MongoPreparedStatement(
+                        sql, new MongoStatement(this, currentDB, resultSetType));
+            } catch (IllegalArgumentException e) {
+                throw new SQLException(e);
+            }
         } else {
             throw new SQLFeatureNotSupportedException(
                     Thread.currentThread().getStackTrace()[1].toString());
@@ -570,9 +745,10 @@ public class MongoConnection implements Connection {
     public Statement createStatement(
             int resultSetType, int resultSetConcurrency, int resultSetHoldability)
             throws SQLException {
-        if (resultSetType == ResultSet.TYPE_FORWARD_ONLY
-                && resultSetConcurrency == ResultSet.CONCUR_READ_ONLY) {
-            return createStatement();
+        if (resultSetConcurrency == ResultSet.CONCUR_READ_ONLY
+                && (resultSetType == ResultSet.TYPE_FORWARD_ONLY
+                        || resultSetType == ResultSet.TYPE_SCROLL_INSENSITIVE)) {
+            return createStatement(resultSetType, resultSetConcurrency);
         } else {
             throw new SQLFeatureNotSupportedException(
                     Thread.currentThread().getStackTrace()[1].toString());
@@ -583,8 +759,14 @@ public class MongoConnection implements Connection {
     public PreparedStatement prepareStatement(
             String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability)
             throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        if (resultSetConcurrency == ResultSet.CONCUR_READ_ONLY
+                && (resultSetType == ResultSet.TYPE_FORWARD_ONLY
+                        || resultSetType == ResultSet.TYPE_SCROLL_INSENSITIVE)) {
+            return prepareStatement(sql, resultSetType, resultSetConcurrency);
+        } else {
+            throw new SQLFeatureNotSupportedException(
+                    Thread.currentThread().getStackTrace()[1].toString());
+        }
     }
 
     @Override
@@ -21,6 +21,25 @@ import java.io.File;
 import java.util.logging.Level;
 
 public class MongoConnectionProperties {
+    // The default memory limit of the row buffer of scrollable result sets, in megabytes.
+    public static final int DEFAULT_SCROLL_BUFFER_MEMORY_LIMIT_MB = 64;
+    // The default memory limit of a batch in adaptive fetch size mode, in megabytes.
+    public static final int DEFAULT_ADAPTIVE_FETCH_MEMORY_LIMIT_MB = 16;
+    // The default number of query translations cached per client, and their time to live.
+    public static final int DEFAULT_TRANSLATION_CACHE_SIZE = 1000;
+    public static final int DEFAULT_TRANSLATION_CACHE_TTL_SEC = 3600;
+    // The default time to live of cached collection schemas when change streams are unavailable,
+    // 0 disables the cache.
+    public static final int DEFAULT_SCHEMA_CACHE_TTL_SEC = 0;
+    // The default time to live of the result schemas cached on Atlas Data Federation.
+    public static final int DEFAULT_RESULT_SCHEMA_CACHE_TTL_SEC = 300;
+    // The default time to live of cached query results, 0 disables the cache, and the default
+    // memory limit of the cache in megabytes.
+    public static final int DEFAULT_RESULT_CACHE_TTL_SEC = 0;
+    public static final int DEFAULT_RESULT_CACHE_MEMORY_LIMIT_MB = 64;
+    // The default number of parallel aggregates a collection scan is split into, 0 disables it.
+    public static final int DEFAULT_SCAN_PARTITIONS = 0;
+
     private ConnectionString connectionString;
     private String database;
     private Level logLevel;
@@ -33,6 +52,18 @@ public class MongoConnectionProperties {
     private final String gssApiLoginContextName;
     private final String gssApiServerAuth;
     private String tlsCaFile;
+    private boolean rawRowMode;
+    private int scrollBufferMemoryLimitMB;
+    private boolean cursorPrefetch;
+    private boolean adaptiveFetchSize;
+    private int adaptiveFetchMemoryLimitMB;
+    private int translationCacheSize;
+    private int translationCacheTtlSec;
+    private int schemaCacheTtlSec;
+    private int resultSchemaCacheTtlSec;
+    private int resultCacheTtlSec;
+    private int resultCacheMemoryLimitMB;
+    private int scanPartitions;
 
     public MongoConnectionProperties(
             ConnectionString connectionString,
@@ -47,6 +78,58 @@ public class MongoConnectionProperties {
             String gssApiServerAuth,
             String tlsCaFile,
             String x509PemPath) {
+        this(
+                connectionString,
+                database,
+                logLevel,
+                logDir,
+                clientInfo,
+                extJsonMode,
+                jaasConfigPath,
+                gssNativeMode,
+                gssApiLoginContextName,
+                gssApiServerAuth,
+                tlsCaFile,
+                x509PemPath,
+                false,
+                DEFAULT_SCROLL_BUFFER_MEMORY_LIMIT_MB,
+                false,
+                false,
+                DEFAULT_ADAPTIVE_FETCH_MEMORY_LIMIT_MB,
+                DEFAULT_TRANSLATION_CACHE_SIZE,
+                DEFAULT_TRANSLATION_CACHE_TTL_SEC,
+                DEFAULT_SCHEMA_CACHE_TTL_SEC,
+                DEFAULT_RESULT_SCHEMA_CACHE_TTL_SEC,
+                DEFAULT_RESULT_CACHE_TTL_SEC,
+                DEFAULT_RESULT_CACHE_MEMORY_LIMIT_MB,
+                DEFAULT_SCAN_PARTITIONS);
+    }
+
+    public MongoConnectionProperties(
+            ConnectionString connectionString,
+            String database,
+            Level logLevel,
+            File logDir,
+            String clientInfo,
+            boolean extJsonMode,
+            String jaasConfigPath,
+            String gssNativeMode,
+            String gssApiLoginContextName,
+            String gssApiServerAuth,
+            String tlsCaFile,
+            String x509PemPath,
+            boolean rawRowMode,
+            int scrollBufferMemoryLimitMB,
+            boolean cursorPrefetch,
+            boolean adaptiveFetchSize,
+            int adaptiveFetchMemoryLimitMB,
+            int translationCacheSize,
+            int translationCacheTtlSec,
+            int schemaCacheTtlSec,
+            int resultSchemaCacheTtlSec,
+            int resultCacheTtlSec,
+            int resultCacheMemoryLimitMB,
+            int scanPartitions) {
         this.connectionString = connectionString;
         this.database = database;
         this.logLevel = logLevel;
@@ -59,6 +142,18 @@ public class MongoConnectionProperties {
         this.gssApiLoginContextName = gssApiLoginContextName;
         this.gssApiServerAuth = gssApiServerAuth;
         this.tlsCaFile = tlsCaFile;
+        this.rawRowMode = rawRowMode;
+        this.scrollBufferMemoryLimitMB = scrollBufferMemoryLimitMB;
+        this.cursorPrefetch = cursorPrefetch;
+        this.adaptiveFetchSize = adaptiveFetchSize;
+        this.adaptiveFetchMemoryLimitMB = adaptiveFetchMemoryLimitMB;
+        this.translationCacheSize = translationCacheSize;
+        this.translationCacheTtlSec = translationCacheTtlSec;
+        this.schemaCacheTtlSec = schemaCacheTtlSec;
+        this.resultSchemaCacheTtlSec = resultSchemaCacheTtlSec;
+        this.resultCacheTtlSec = resultCacheTtlSec;
+        this.resultCacheMemoryLimitMB = resultCacheMemoryLimitMB;
+        this.scanPartitions = scanPartitions;
     }
 
     public ConnectionString getConnectionString() {
@@ -85,6 +180,54 @@ public class MongoConnectionProperties {
         return extJsonMode;
     }
 
+    public boolean getRawRowMode() {
+        return rawRowMode;
+    }
+
+    public int getScrollBufferMemoryLimitMB() {
+        return scrollBufferMemoryLimitMB;
+    }
+
+    public boolean getCursorPrefetch() {
+        return cursorPrefetch;
+    }
+
+    public boolean getAdaptiveFetchSize() {
+        return adaptiveFetchSize;
+    }
+
+    public int getAdaptiveFetchMemoryLimitMB() {
+        return adaptiveFetchMemoryLimitMB;
+    }
+
+    public int getTranslationCacheSize() {
+        return translationCacheSize;
+    }
+
+    public int getTranslationCacheTtlSec() {
+        return translationCacheTtlSec;
+    }
+
+    public int getSchemaCacheTtlSec() {
+        return schemaCacheTtlSec;
+    }
+
+    public int getResultSchemaCacheTtlSec() {
+        return resultSchemaCacheTtlSec;
+    }
+
+    public int getResultCacheTtlSec() {
+        return resultCacheTtlSec;
+    }
+
+    public int getResultCacheMemoryLimitMB() {
+        return resultCacheMemoryLimitMB;
+    }
+
+    public int getScanPartitions() {
+        return scanPartitions;
+    }
+
     public String getTlsCaFile() {
         return tlsCaFile;
     }
@@ -112,6 +255,8 @@ public class MongoConnectionProperties {
     /*
      * Generate a unique key for the connection properties. This key is used to identify the connection properties in the
      * connection cache. Properties that do not differentiate a specific client such as the log level are not included in the key.
+     * The cache settings are included because the caches are shared by all the connections of a
+     * client.
      */
     public Integer generateKey() {
         StringBuilder keyBuilder = new StringBuilder();
@@ -122,6 +267,19 @@ public class MongoConnectionProperties {
         if (tlsCaFile != null) {
             keyBuilder.append(":tlsCaFile=").append(tlsCaFile);
         }
+        keyBuilder
+                .append(":translationCacheSize=")
+                .append(translationCacheSize)
+                .append(":translationCacheTtlSec=")
+                .append(translationCacheTtlSec)
+                .append(":schemaCacheTtlSec=")
+                .append(schemaCacheTtlSec)
+                .append(":resultSchemaCacheTtlSec=")
+                .append(resultSchemaCacheTtlSec)
+                .append(":resultCacheTtlSec=")
+                .append(resultCacheTtlSec)
+                .append(":resultCacheMemoryLimitMB=")
+                .append(resultCacheMemoryLimitMB);
         return keyBuilder.toString().hashCode();
     }
 }
@@ -106,7 +106,20 @@ public class MongoDriver implements Driver {
         JAAS_CONFIG_PATH("jaasconfigpath"),
         GSS_NATIVE_MODE("gssnativemode"),
         GSSAPI_LOGIN_CONTEXT_NAME("gssapilogincontextname"),
-        GSSAPI_SERVER_AUTH("gssapiserverauth");
+        GSSAPI_SERVER_AUTH("gssapiserverauth"),
+        // Performance related properties
+        RAW_ROW_MODE("rawrowmode"),
+        SCROLL_BUFFER_MEMORY_LIMIT("scrollbuffermemorylimit"),
+        CURSOR_PREFETCH("cursorprefetch"),
+        ADAPTIVE_FETCH_SIZE("adaptivefetchsize"),
+        ADAPTIVE_FETCH_MEMORY_LIMIT("adaptivefetchmemorylimit"),
+        TRANSLATION_CACHE_SIZE("translationcachesize"),
+        TRANSLATION_CACHE_TTL("translationcachettl"),
+        SCHEMA_CACHE_TTL("schemacachettl"),
+        RESULT_SCHEMA_CACHE_TTL("resultschemacachettl"),
+        RESULT_CACHE_TTL("resultcachettl"),
+        RESULT_CACHE_MEMORY_LIMIT("resultcachememorylimit"),
+        SCAN_PARTITIONS("scanpartitions");
 
         private final String propertyName;
 
@@ -516,13 +529,48 @@ public class MongoDriver implements Driver {
                         info.getProperty(GSSAPI_LOGIN_CONTEXT_NAME.getPropertyName()),
                         info.getProperty(GSSAPI_SERVER_AUTH.getPropertyName()),
                         tlsCaFile,
-                        info.getProperty(X509_PEM_PATH.getPropertyName()));
-
-        String disableCacheVal =
-                info.getProperty(DISABLE_CLIENT_CACHE.getPropertyName(), "false").toLowerCase();
-        if (disableCacheVal.equals("true")
-                || disableCacheVal.equals("yes")
-                || disableCacheVal.equals("1")) {
+                        info.getProperty(X509_PEM_PATH.getPropertyName()),
+                        getBooleanProperty(info, RAW_ROW_MODE),
+                        getIntProperty(
+                                info,
+                                SCROLL_BUFFER_MEMORY_LIMIT,
+                                MongoConnectionProperties.DEFAULT_SCROLL_BUFFER_MEMORY_LIMIT_MB),
+                        getBooleanProperty(info, CURSOR_PREFETCH),
+                        getBooleanProperty(info, ADAPTIVE_FETCH_SIZE),
+                        getIntProperty(
+                                info,
+                                ADAPTIVE_FETCH_MEMORY_LIMIT,
+                                MongoConnectionProperties.DEFAULT_ADAPTIVE_FETCH_MEMORY_LIMIT_MB),
+                        getIntProperty(
+                                info,
+                                TRANSLATION_CACHE_SIZE,
+                                MongoConnectionProperties.DEFAULT_TRANSLATION_CACHE_SIZE),
+                        getIntProperty(
+                                info,
+                                TRANSLATION_CACHE_TTL,
+                                MongoConnectionProperties.DEFAULT_TRANSLATION_CACHE_TTL_SEC),
+                        getIntProperty(
+                                info,
+                                SCHEMA_CACHE_TTL,
+                                MongoConnectionProperties.DEFAULT_SCHEMA_CACHE_TTL_SEC),
+                        getIntProperty(
+                                info,
+                                RESULT_SCHEMA_CACHE_TTL,
+                                MongoConnectionProperties.DEFAULT_RESULT_SCHEMA_CACHE_TTL_SEC),
+                        getIntProperty(
+                                info,
+                                RESULT_CACHE_TTL,
+                                MongoConnectionProperties.DEFAULT_RESULT_CACHE_TTL_SEC),
+                        getIntProperty(
+                                info,
+                                RESULT_CACHE_MEMORY_LIMIT,
+                                MongoConnectionProperties.DEFAULT_RESULT_CACHE_MEMORY_LIMIT_MB),
+                        getIntProperty(
+                                info,
+                                SCAN_PARTITIONS,
+                                MongoConnectionProperties.DEFAULT_SCAN_PARTITIONS));
+
+        if (getBooleanProperty(info, DISABLE_CLIENT_CACHE)) {
             // If the user has set the disable cache property, we will not use the cache.
             return new MongoConnection(mongoConnectionProperties, x509Passphrase);
         }
@@ -559,6 +607,50 @@ public class MongoDriver implements Driver {
         }
     }
 
+    /**
+     * Reads a boolean JDBC property. The values 'true', 'yes' and '1' are considered true, anything
+     * else, including a missing value, is false.
+     *
+     * @param info The connection properties.
+     * @param property The property to read.
+     * @return the boolean value of the property.
+     */
+    private static boolean getBooleanProperty(Properties info, MongoJDBCProperty property) {
+        String val = info.getProperty(property.getPropertyName(), "false").toLowerCase();
+        return val.equals("true") || val.equals("yes") || val.equals("1");
+    }
+
+    /**
+     * Parses a non-negative integer JDBC property.
+     *
+     * @param info The connection properties.
+     * @param property The property to parse.
+     * @param defaultValue The value used when the property is not set.
+     * @return the integer value of the property.
+     * @throws SQLException if the property value is not a non-negative integer.
+     */
+    private static int getIntProperty(
+            Properties info, MongoJDBCProperty property, int defaultValue) throws SQLException {
+        String val = info.getProperty(property.getPropertyName());
+        if (val == null) {
+            return defaultValue;
+        }
+        try {
+            int intVal = Integer.parseInt(val.trim());
+            if (intVal >= 0) {
+                return intVal;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below.
+        }
+        throw new SQLException(
+                "Invalid "
+                        + property.getPropertyName()
+                        + " property value : "
+                        + val
+                        + ". It must be a non-negative integer.");
+    }
+
     public static void closeAllClients() {
         mongoClientCacheLock.writeLock().lock();
         try {
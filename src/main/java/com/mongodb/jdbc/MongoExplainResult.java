@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import com.mongodb.jdbc.mongosql.GetNamespacesResult;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonNull;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.json.JsonWriterSettings;
+
+/**
+ * MongoExplainResult describes how a SQL query runs: the namespaces and the schema catalog of its
+ * translation, the pipeline the driver sends, the explain output of the server for that pipeline
+ * and the time spent in each step. See {@link MongoStatement#explain(String,
+ * com.mongodb.ExplainVerbosity)}.
+ *
+ * <p>On Atlas Data Federation the query is translated by the server, the pipeline is the $sql stage
+ * of the query and there are no namespaces nor catalog.
+ */
+public class MongoExplainResult {
+    /** The step reading the namespaces of the query. */
+    public static final String NAMESPACES_PHASE = "namespaces";
+    /** The step building the schema catalog of the query. */
+    public static final String CATALOG_PHASE = "catalog";
+    /** The step translating the query into a pipeline. */
+    public static final String TRANSLATE_PHASE = "translate";
+    /** The explain command. */
+    public static final String EXPLAIN_PHASE = "explain";
+
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private final String sql;
+    private List<GetNamespacesResult.Namespace> namespaces = Collections.emptyList();
+    private BsonDocument catalog;
+    private String database;
+    private String targetCollection;
+    private List<BsonDocument> pipeline = Collections.emptyList();
+    private BsonDocument serverExplain;
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+
+    MongoExplainResult(String sql) {
+        this.sql = sql;
+    }
+
+    void setTranslation(List<GetNamespacesResult.Namespace> namespaces, BsonDocument catalog) {
+        this.namespaces = namespaces;
+        this.catalog = catalog;
+    }
+
+    void setQuery(String database, String targetCollection, List<BsonDocument> pipeline) {
+        this.database = database;
+        this.targetCollection = targetCollection;
+        this.pipeline = pipeline;
+    }
+
+    void setServerExplain(BsonDocument serverExplain) {
+        this.serverExplain = serverExplain;
+    }
+
+    void addPhaseTime(String phase, long nanos) {
+        phaseNanos.merge(phase, nanos, Long::sum);
+    }
+
+    /** @return the SQL query. */
+    public String getSql() {
+        return sql;
+    }
+
+    /** @return the namespaces of the query, empty on Atlas Data Federation. */
+    public List<GetNamespacesResult.Namespace> getNamespaces() {
+        return namespaces;
+    }
+
+    /**
+     * @return the schema catalog the query was translated with, or null on Atlas Data Federation.
+     */
+    public BsonDocument getCatalog() {
+        return catalog;
+    }
+
+    /** @return the database the pipeline runs in. */
+    public String getDatabase() {
+        return database;
+    }
+
+    /** @return the collection the pipeline runs on, or null if it runs on the database. */
+    public String getTargetCollection() {
+        return targetCollection;
+    }
+
+    /** @return the pipeline the driver sends for the query. */
+    public List<BsonDocument> getPipeline() {
+        return pipeline;
+    }
+
+    /** @return the explain output of the server for the pipeline. */
+    public BsonDocument getServerExplain() {
+        return serverExplain;
+    }
+
+    /**
+     * Returns the time spent in each step, in the order the steps ran. The steps are {@link
+     * #NAMESPACES_PHASE}, {@link #CATALOG_PHASE}, {@link #TRANSLATE_PHASE} and {@link
+     * #EXPLAIN_PHASE}, the first three only for direct cluster queries. Steps served by the driver
+     * caches take almost no time.
+     *
+     * @return the number of nanoseconds of each step.
+     */
+    public Map<String, Long> getPhaseTimings() {
+        return Collections.unmodifiableMap(phaseNanos);
+    }
+
+    /** @return all the parts of the result as a single document. */
+    public BsonDocument toBsonDocument() {
+        BsonArray namespacesArray = new BsonArray();
+        for (GetNamespacesResult.Namespace namespace : namespaces) {
+            namespacesArray.add(
+                    new BsonDocument("database", new BsonString(namespace.database))
+                            .append("collection", new BsonString(namespace.collection)));
+        }
+        BsonDocument timings = new BsonDocument();
+        phaseNanos.forEach(
+                (phase, nanos) -> timings.append(phase, new BsonDouble(nanos / NANOS_PER_MILLI)));
+        return new BsonDocument("sql", new BsonString(sql))
+                .append("namespaces", namespacesArray)
+                .append("catalog", orNull(catalog))
+                .append("database", database == null ? BsonNull.VALUE : new BsonString(database))
+                .append(
+                        "targetCollection",
+                        targetCollection == null
+                                ? BsonNull.VALUE
+                                : new BsonString(targetCollection))
+                .append("pipeline", new BsonArray(pipeline))
+                .append("explain", orNull(serverExplain))
+                .append("timingsMS", timings);
+    }
+
+    private static BsonValue orNull(BsonValue value) {
+        return value == null ? BsonNull.VALUE : value;
+    }
+
+    @Override
+    public String toString() {
+        return toBsonDocument().toJson(JsonWriterSettings.builder().indent(true).build());
+    }
+}
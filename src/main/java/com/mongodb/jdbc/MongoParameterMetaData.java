@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.JDBCType;
+import java.sql.ParameterMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * MongoParameterMetaData describes the parameters of a prepared statement. The type of a parameter
+ * is the type of the value bound to it, or Types.OTHER while no value is bound.
+ *
+ * <p>The types come from the bound values only: they are not inferred from the query, so they do
+ * not tell the type a parameter is compared to, and they change when a value of another type is
+ * bound.
+ */
+public class MongoParameterMetaData implements ParameterMetaData {
+    private final int[] types;
+
+    /** @param types The java.sql.Types of the parameters. */
+    MongoParameterMetaData(int[] types) {
+        this.types = types.clone();
+    }
+
+    private int getType(int param) throws SQLException {
+        if (param < 1 || param > types.length) {
+            throw new SQLException("Invalid parameter index: " + param);
+        }
+        return types[param - 1];
+    }
+
+    @Override
+    public int getParameterCount() throws SQLException {
+        return types.length;
+    }
+
+    @Override
+    public int isNullable(int param) throws SQLException {
+        getType(param);
+        return parameterNullableUnknown;
+    }
+
+    @Override
+    public boolean isSigned(int param) throws SQLException {
+        switch (getType(param)) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.REAL:
+            case Types.DOUBLE:
+            case Types.DECIMAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public int getPrecision(int param) throws SQLException {
+        getType(param);
+        return 0;
+    }
+
+    @Override
+    public int getScale(int param) throws SQLException {
+        getType(param);
+        return 0;
+    }
+
+    @Override
+    public int getParameterType(int param) throws SQLException {
+        return getType(param);
+    }
+
+    @Override
+    public String getParameterTypeName(int param) throws SQLException {
+        return JDBCType.valueOf(getType(param)).getName();
+    }
+
+    @Override
+    public String getParameterClassName(int param) throws SQLException {
+        switch (getType(param)) {
+            case Types.BOOLEAN:
+                return Boolean.class.getName();
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return Integer.class.getName();
+            case Types.BIGINT:
+                return Long.class.getName();
+            case Types.REAL:
+            case Types.DOUBLE:
+                return Double.class.getName();
+            case Types.DECIMAL:
+                return BigDecimal.class.getName();
+            case Types.VARCHAR:
+                return String.class.getName();
+            case Types.DATE:
+                return Date.class.getName();
+            case Types.TIME:
+                return Time.class.getName();
+            case Types.TIMESTAMP:
+                return Timestamp.class.getName();
+            default:
+                return Object.class.getName();
+        }
+    }
+
+    @Override
+    public int getParameterMode(int param) throws SQLException {
+        getType(param);
+        return parameterModeIn;
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return (T) this;
+    }
+}
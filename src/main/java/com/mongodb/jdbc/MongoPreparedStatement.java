@@ -16,17 +16,22 @@
 
 package com.mongodb.jdbc;
 
+import com.mongodb.ExplainVerbosity;
 import com.mongodb.jdbc.logging.AutoLoggable;
 import com.mongodb.jdbc.logging.MongoLogger;
+import com.mongodb.jdbc.mongosql.ParameterizedQuery;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.net.URL;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Connection;
 import java.sql.Date;
+import java.sql.JDBCType;
 import java.sql.NClob;
 import java.sql.ParameterMetaData;
 import java.sql.PreparedStatement;
@@ -40,12 +45,38 @@ import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * MongoPreparedStatement binds the values of its ? parameters as SQL literals in the query. The
+ * setObject methods taking a target type convert the value to that type first, and throw
+ * SQLFeatureNotSupportedException for the target types and conversions which are not supported.
+ *
+ * <p>Translations do not expose the types of the parameters, so getParameterMetaData() reports the
+ * type of the value bound to each parameter, and Types.OTHER for the parameters not bound yet.
+ */
 @AutoLoggable
 public class MongoPreparedStatement implements PreparedStatement {
     private String sql;
     private MongoStatement statement;
+    // The translation of the query, made on the first execution and kept while the schemas of its
+    // collections do not change.
+    private final AtomicReference<QueryTranslation> translation = new AtomicReference<>();
+    // The positions of the ? parameter markers in the query.
+    private final List<Integer> parameterMarkers;
+    // The SQL literal bound to each parameter, or null while no value is bound.
+    private final String[] parameterLiterals;
+    // The java.sql.Types of the value bound to each parameter.
+    private final int[] parameterTypes;
     protected MongoLogger logger;
 
     public MongoPreparedStatement(String sql, MongoStatement statement) throws SQLException {
@@ -56,28 +87,175 @@ public class MongoPreparedStatement implements PreparedStatement {
                         statement.getStatementId());
         this.sql = sql;
         this.statement = statement;
+        this.parameterMarkers = ParameterizedQuery.findParameterMarkers(sql);
+        this.parameterLiterals = new String[parameterMarkers.size()];
+        this.parameterTypes = new int[parameterMarkers.size()];
+        Arrays.fill(parameterTypes, Types.OTHER);
+    }
+
+    /*
+     * Parameters are bound as SQL literals in the query, so the values never change the
+     * structure of the query. Strings, numbers and temporal values are bound as string literals,
+     * cast to their type, so that the executions of the statement share the translation of the
+     * query shape, see ParameterizedQuery.
+     */
+
+    private void setParameter(int parameterIndex, String literal, int sqlType)
+            throws SQLException {
+        statement.checkClosed();
+        if (parameterIndex < 1 || parameterIndex > parameterLiterals.length) {
+            throw new SQLException("Invalid parameter index: " + parameterIndex);
+        }
+        parameterLiterals[parameterIndex - 1] = literal;
+        parameterTypes[parameterIndex - 1] = sqlType;
+    }
+
+    private static String stringLiteral(String value) {
+        return "'" + value.replace("'", "''") + "'";
+    }
+
+    private static String castLiteral(String value, String type) {
+        return "CAST(" + stringLiteral(value) + " AS " + type + ")";
+    }
+
+    /** @return the literal of an integer, which is not cast after LIMIT and OFFSET. */
+    private String integerLiteral(int parameterIndex, long value, String type) {
+        if (parameterIndex >= 1
+                && parameterIndex <= parameterMarkers.size()
+                && isLimitOrOffset(parameterMarkers.get(parameterIndex - 1))) {
+            return Long.toString(value);
+        }
+        return castLiteral(Long.toString(value), type);
+    }
+
+    private static String doubleLiteral(String value) throws SQLException {
+        BigDecimal decimal;
+        try {
+            decimal = new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new SQLException("Cannot bind the non finite value " + value);
+        }
+        return castLiteral(decimal.toPlainString(), "DOUBLE");
+    }
+
+    private static String timestampLiteral(Instant value) {
+        return castLiteral(value.toString(), "TIMESTAMP");
+    }
+
+    private static String timestampLiteral(LocalDateTime value, Calendar cal) {
+        return timestampLiteral(value.atZone(cal.getTimeZone().toZoneId()).toInstant());
+    }
+
+    // BSON dates are read as instants in UTC, so the values without a time zone are bound in UTC.
+
+    private static Date utcDate(LocalDate value) {
+        return new Date(value.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli());
+    }
+
+    private static Time utcTime(LocalTime value) {
+        return new Time(
+                LocalDate.ofEpochDay(0).atTime(value).toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+
+    private static Timestamp utcTimestamp(LocalDateTime value) {
+        return Timestamp.from(value.toInstant(ZoneOffset.UTC));
+    }
+
+    /**
+     * @param placeholderForUnbound True to use a placeholder for the parameters which are not
+     *     bound, false to throw.
+     * @return the query with the bound values in place of the parameter markers.
+     */
+    private String getBoundSql(boolean placeholderForUnbound) throws SQLException {
+        if (parameterMarkers.isEmpty()) {
+            return sql;
+        }
+        StringBuilder bound = new StringBuilder(sql.length() + 16 * parameterLiterals.length);
+        int start = 0;
+        for (int i = 0; i < parameterLiterals.length; i++) {
+            String literal = parameterLiterals[i];
+            if (literal == null) {
+                if (!placeholderForUnbound) {
+                    throw new SQLException("No value specified for parameter " + (i + 1));
+                }
+                literal = placeholderLiteral(parameterMarkers.get(i));
+            }
+            int marker = parameterMarkers.get(i);
+            bound.append(sql, start, marker).append(literal);
+            start = marker + 1;
+        }
+        return bound.append(sql, start, sql.length()).toString();
+    }
+
+    /**
+     * @return the literal standing for an unbound parameter: NULL, except after LIMIT and OFFSET
+     *     which only take numbers.
+     */
+    private String placeholderLiteral(int marker) {
+        if (!isLimitOrOffset(marker)) {
+            return "NULL";
+        }
+        return precedingKeyword(marker).equalsIgnoreCase("LIMIT") ? "1" : "0";
+    }
+
+    /** @return whether a parameter marker follows LIMIT or OFFSET, which only take integers. */
+    private boolean isLimitOrOffset(int marker) {
+        String keyword = precedingKeyword(marker);
+        return keyword.equalsIgnoreCase("LIMIT") || keyword.equalsIgnoreCase("OFFSET");
+    }
+
+    private String precedingKeyword(int marker) {
+        int end = marker;
+        while (end > 0 && Character.isWhitespace(sql.charAt(end - 1))) {
+            end--;
+        }
+        int start = end;
+        while (start > 0 && Character.isLetter(sql.charAt(start - 1))) {
+            start--;
+        }
+        return sql.substring(start, end);
+    }
+
+    private ResultSet executeBoundQuery() throws SQLException {
+        // The translation of a query with parameters depends on the bound values.
+        return parameterMarkers.isEmpty()
+                ? statement.executeQuery(sql, translation)
+                : statement.executeQuery(getBoundSql(false));
+    }
+
+    /**
+     * Explains the query with the current parameter values, see {@link
+     * MongoStatement#explain(String, ExplainVerbosity)}.
+     *
+     * @param verbosity The verbosity of the server explain output.
+     * @return the translation, the pipeline, the server explain output and the time of each step.
+     */
+    public MongoExplainResult explain(ExplainVerbosity verbosity) throws SQLException {
+        return statement.explain(getBoundSql(false), verbosity);
     }
 
     @Override
     public void addBatch() throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        // The batch runs the query once for each set of bound values, see
+        // MongoStatement.executeBatch().
+        statement.addBatch(getBoundSql(false));
     }
 
     @Override
     public void clearParameters() throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        Arrays.fill(parameterLiterals, null);
+        Arrays.fill(parameterTypes, Types.OTHER);
     }
 
     @Override
     public boolean execute() throws SQLException {
-        return statement.execute(sql);
+        executeBoundQuery();
+        return statement.getResultSet() != null;
     }
 
     @Override
     public ResultSet executeQuery() throws SQLException {
-        return statement.executeQuery(sql);
+        return executeBoundQuery();
     }
 
     @Override
@@ -120,6 +298,16 @@ public class MongoPreparedStatement implements PreparedStatement {
         statement.setMaxRows(max);
     }
 
+    @Override
+    public long getLargeMaxRows() throws SQLException {
+        return statement.getLargeMaxRows();
+    }
+
+    @Override
+    public void setLargeMaxRows(long max) throws SQLException {
+        statement.setLargeMaxRows(max);
+    }
+
     @Override
     public void setEscapeProcessing(boolean enable) throws SQLException {
         statement.setEscapeProcessing(enable);
@@ -297,17 +485,15 @@ public class MongoPreparedStatement implements PreparedStatement {
 
     @Override
     public ResultSetMetaData getMetaData() throws SQLException {
-        // This is not an efficient way to do this... at all.
-        ResultSet rs = executeQuery("select * from (" + sql + ") orig_query limit 1");
-        return rs.getMetaData();
+        // Parameters which are not bound yet do not change the columns of the result set.
+        return parameterMarkers.isEmpty()
+                ? statement.describeQuery(sql, translation)
+                : statement.describeQuery(getBoundSql(true), null);
     }
 
-    // Supporting any of these set methods will require adding that functionality to ADF or
-    // having a SQL parser in Java.
     @Override
     public ParameterMetaData getParameterMetaData() throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        return new MongoParameterMetaData(parameterTypes);
     }
 
     @Override
@@ -336,8 +522,11 @@ public class MongoPreparedStatement implements PreparedStatement {
 
     @Override
     public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        if (x == null) {
+            setNull(parameterIndex, Types.DECIMAL);
+        } else {
+            setParameter(parameterIndex, castLiteral(x.toPlainString(), "DECIMAL"), Types.DECIMAL);
+        }
     }
 
     @Override
@@ -380,14 +569,12 @@ public class MongoPreparedStatement implements PreparedStatement {
 
     @Override
     public void setBoolean(int parameterIndex, boolean x) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        setParameter(parameterIndex, x ? "TRUE" : "FALSE", Types.BOOLEAN);
     }
 
     @Override
     public void setByte(int parameterIndex, byte x) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        setParameter(parameterIndex, integerLiteral(parameterIndex, x, "INT"), Types.TINYINT);
     }
 
     @Override
@@ -436,38 +623,41 @@ public class MongoPreparedStatement implements PreparedStatement {
 
     @Override
     public void setDate(int parameterIndex, Date x) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        setDate(parameterIndex, x, null);
     }
 
     @Override
     public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        if (x == null) {
+            setNull(parameterIndex, Types.DATE);
+        } else {
+            setParameter(
+                    parameterIndex,
+                    cal == null
+                            ? timestampLiteral(Instant.ofEpochMilli(x.getTime()))
+                            : timestampLiteral(x.toLocalDate().atStartOfDay(), cal),
+                    Types.DATE);
+        }
     }
 
     @Override
     public void setDouble(int parameterIndex, double x) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        setParameter(parameterIndex, doubleLiteral(Double.toString(x)), Types.DOUBLE);
     }
 
     @Override
     public void setFloat(int parameterIndex, float x) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        setParameter(parameterIndex, doubleLiteral(Float.toString(x)), Types.REAL);
     }
 
     @Override
     public void setInt(int parameterIndex, int x) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        setParameter(parameterIndex, integerLiteral(parameterIndex, x, "INT"), Types.INTEGER);
     }
 
     @Override
     public void setLong(int parameterIndex, long x) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        setParameter(parameterIndex, integerLiteral(parameterIndex, x, "BIGINT"), Types.BIGINT);
     }
 
     @Override
@@ -503,39 +693,241 @@ public class MongoPreparedStatement implements PreparedStatement {
 
     @Override
     public void setNString(int parameterIndex, String value) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        setString(parameterIndex, value);
     }
 
     @Override
     public void setNull(int parameterIndex, int sqlType) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        setParameter(parameterIndex, "NULL", sqlType);
     }
 
     @Override
     public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        setNull(parameterIndex, sqlType);
     }
 
     @Override
     public void setObject(int parameterIndex, Object x) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        if (x == null) {
+            setNull(parameterIndex, Types.NULL);
+        } else if (x instanceof Boolean) {
+            setBoolean(parameterIndex, (Boolean) x);
+        } else if (x instanceof Byte) {
+            setByte(parameterIndex, (Byte) x);
+        } else if (x instanceof Short) {
+            setShort(parameterIndex, (Short) x);
+        } else if (x instanceof Integer) {
+            setInt(parameterIndex, (Integer) x);
+        } else if (x instanceof Long) {
+            setLong(parameterIndex, (Long) x);
+        } else if (x instanceof Float) {
+            setFloat(parameterIndex, (Float) x);
+        } else if (x instanceof Double) {
+            setDouble(parameterIndex, (Double) x);
+        } else if (x instanceof BigDecimal) {
+            setBigDecimal(parameterIndex, (BigDecimal) x);
+        } else if (x instanceof BigInteger) {
+            setBigDecimal(parameterIndex, new BigDecimal((BigInteger) x));
+        } else if (x instanceof String || x instanceof Character) {
+            setString(parameterIndex, x.toString());
+        } else if (x instanceof Timestamp) {
+            setTimestamp(parameterIndex, (Timestamp) x);
+        } else if (x instanceof Date) {
+            setDate(parameterIndex, (Date) x);
+        } else if (x instanceof Time) {
+            setTime(parameterIndex, (Time) x);
+        } else if (x instanceof java.util.Date) {
+            setTimestamp(parameterIndex, new Timestamp(((java.util.Date) x).getTime()));
+        } else if (x instanceof Instant) {
+            setTimestamp(parameterIndex, Timestamp.from((Instant) x));
+        } else if (x instanceof LocalDate) {
+            setDate(parameterIndex, utcDate((LocalDate) x));
+        } else if (x instanceof LocalDateTime) {
+            setTimestamp(parameterIndex, utcTimestamp((LocalDateTime) x));
+        } else {
+            throw new SQLFeatureNotSupportedException(
+                    "Unsupported parameter type: " + x.getClass().getName());
+        }
     }
 
     @Override
     public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        setObject(parameterIndex, x, targetSqlType, null);
     }
 
     @Override
     public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength)
             throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        setObject(parameterIndex, x, targetSqlType, Integer.valueOf(scaleOrLength));
+    }
+
+    /**
+     * Converts a value to the target type before binding it.
+     *
+     * @param scale The scale of a DECIMAL or NUMERIC value, or null to keep the scale of the value.
+     */
+    private void setObject(int parameterIndex, Object x, int targetSqlType, Integer scale)
+            throws SQLException {
+        if (x == null) {
+            setNull(parameterIndex, targetSqlType);
+            return;
+        }
+        try {
+            switch (targetSqlType) {
+                case Types.OTHER:
+                case Types.JAVA_OBJECT:
+                    setObject(parameterIndex, x);
+                    break;
+                case Types.BIT:
+                case Types.BOOLEAN:
+                    setBoolean(parameterIndex, toBoolean(x));
+                    break;
+                case Types.TINYINT:
+                    setByte(parameterIndex, toDecimal(x).byteValueExact());
+                    break;
+                case Types.SMALLINT:
+                    setShort(parameterIndex, toDecimal(x).shortValueExact());
+                    break;
+                case Types.INTEGER:
+                    setInt(parameterIndex, toDecimal(x).intValueExact());
+                    break;
+                case Types.BIGINT:
+                    setLong(parameterIndex, toDecimal(x).longValueExact());
+                    break;
+                case Types.REAL:
+                    setFloat(parameterIndex, toDecimal(x).floatValue());
+                    break;
+                case Types.FLOAT:
+                case Types.DOUBLE:
+                    setDouble(parameterIndex, toDecimal(x).doubleValue());
+                    break;
+                case Types.DECIMAL:
+                case Types.NUMERIC:
+                    BigDecimal decimal = toDecimal(x);
+                    if (scale != null) {
+                        decimal = decimal.setScale(scale, RoundingMode.HALF_UP);
+                    }
+                    setBigDecimal(parameterIndex, decimal);
+                    break;
+                case Types.CHAR:
+                case Types.VARCHAR:
+                case Types.LONGVARCHAR:
+                case Types.NCHAR:
+                case Types.NVARCHAR:
+                case Types.LONGNVARCHAR:
+                    setString(parameterIndex, x.toString());
+                    break;
+                case Types.DATE:
+                    setDate(parameterIndex, toDate(x));
+                    break;
+                case Types.TIME:
+                    setTime(parameterIndex, toTime(x));
+                    break;
+                case Types.TIMESTAMP:
+                    setTimestamp(parameterIndex, toTimestamp(x));
+                    break;
+                default:
+                    throw new SQLFeatureNotSupportedException(
+                            "Unsupported target type: " + typeName(targetSqlType));
+            }
+        } catch (ArithmeticException | IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException.
+            throw new SQLException("Cannot convert " + x + " to " + typeName(targetSqlType), e);
+        }
+    }
+
+    private static String typeName(int sqlType) {
+        try {
+            return JDBCType.valueOf(sqlType).getName();
+        } catch (IllegalArgumentException e) {
+            return Integer.toString(sqlType);
+        }
+    }
+
+    private static SQLFeatureNotSupportedException unsupportedConversion(Object x, String type) {
+        return new SQLFeatureNotSupportedException(
+                "Unsupported conversion from " + x.getClass().getName() + " to " + type);
+    }
+
+    private static boolean toBoolean(Object x) throws SQLException {
+        if (x instanceof Boolean) {
+            return (Boolean) x;
+        } else if (x instanceof Number) {
+            return toDecimal(x).signum() != 0;
+        } else if (x instanceof String || x instanceof Character) {
+            String value = x.toString().trim();
+            if (value.equalsIgnoreCase("true") || value.equals("1")) {
+                return true;
+            } else if (value.equalsIgnoreCase("false") || value.equals("0")) {
+                return false;
+            }
+            throw new IllegalArgumentException(value);
+        }
+        throw unsupportedConversion(x, "BOOLEAN");
+    }
+
+    private static BigDecimal toDecimal(Object x) throws SQLException {
+        if (x instanceof BigDecimal) {
+            return (BigDecimal) x;
+        } else if (x instanceof BigInteger) {
+            return new BigDecimal((BigInteger) x);
+        } else if (x instanceof Byte
+                || x instanceof Short
+                || x instanceof Integer
+                || x instanceof Long) {
+            return BigDecimal.valueOf(((Number) x).longValue());
+        } else if (x instanceof Float || x instanceof Double || x instanceof String) {
+            // The string of a float is its shortest decimal representation.
+            return new BigDecimal(x.toString().trim());
+        } else if (x instanceof Boolean) {
+            return (Boolean) x ? BigDecimal.ONE : BigDecimal.ZERO;
+        }
+        throw unsupportedConversion(x, "a number");
+    }
+
+    private static Date toDate(Object x) throws SQLException {
+        if (x instanceof Date) {
+            return (Date) x;
+        } else if (x instanceof LocalDate) {
+            return utcDate((LocalDate) x);
+        } else if (x instanceof String) {
+            return utcDate(Date.valueOf(((String) x).trim()).toLocalDate());
+        }
+        return utcDate(toTimestamp(x).toInstant().atOffset(ZoneOffset.UTC).toLocalDate());
+    }
+
+    private static Time toTime(Object x) throws SQLException {
+        if (x instanceof Time) {
+            return (Time) x;
+        } else if (x instanceof LocalTime) {
+            return utcTime((LocalTime) x);
+        } else if (x instanceof String) {
+            return utcTime(Time.valueOf(((String) x).trim()).toLocalTime());
+        } else if (x instanceof Date) {
+            throw unsupportedConversion(x, "TIME");
+        }
+        return utcTime(toTimestamp(x).toInstant().atOffset(ZoneOffset.UTC).toLocalTime());
+    }
+
+    private static Timestamp toTimestamp(Object x) throws SQLException {
+        if (x instanceof Timestamp) {
+            return (Timestamp) x;
+        } else if (x instanceof Date) {
+            return new Timestamp(((Date) x).getTime());
+        } else if (x instanceof Time) {
+            throw unsupportedConversion(x, "TIMESTAMP");
+        } else if (x instanceof java.util.Date) {
+            return new Timestamp(((java.util.Date) x).getTime());
+        } else if (x instanceof Instant) {
+            return Timestamp.from((Instant) x);
+        } else if (x instanceof LocalDate) {
+            return utcTimestamp(((LocalDate) x).atStartOfDay());
+        } else if (x instanceof LocalDateTime) {
+            return utcTimestamp((LocalDateTime) x);
+        } else if (x instanceof String) {
+            return utcTimestamp(Timestamp.valueOf(((String) x).trim()).toLocalDateTime());
+        }
+        throw unsupportedConversion(x, "TIMESTAMP");
     }
 
     @Override
@@ -552,8 +944,7 @@ public class MongoPreparedStatement implements PreparedStatement {
 
     @Override
     public void setShort(int parameterIndex, short x) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        setParameter(parameterIndex, integerLiteral(parameterIndex, x, "INT"), Types.SMALLINT);
     }
 
     @Override
@@ -564,32 +955,50 @@ public class MongoPreparedStatement implements PreparedStatement {
 
     @Override
     public void setString(int parameterIndex, String x) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        if (x == null) {
+            setNull(parameterIndex, Types.VARCHAR);
+        } else {
+            setParameter(parameterIndex, stringLiteral(x), Types.VARCHAR);
+        }
     }
 
     @Override
     public void setTime(int parameterIndex, Time x) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        setTime(parameterIndex, x, null);
     }
 
     @Override
     public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        if (x == null) {
+            setNull(parameterIndex, Types.TIME);
+        } else {
+            setParameter(
+                    parameterIndex,
+                    cal == null
+                            ? timestampLiteral(Instant.ofEpochMilli(x.getTime()))
+                            : timestampLiteral(
+                                    LocalDate.ofEpochDay(0).atTime(x.toLocalTime()), cal),
+                    Types.TIME);
+        }
     }
 
     @Override
     public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        setTimestamp(parameterIndex, x, null);
     }
 
     @Override
     public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        if (x == null) {
+            setNull(parameterIndex, Types.TIMESTAMP);
+        } else {
+            setParameter(
+                    parameterIndex,
+                    cal == null
+                            ? timestampLiteral(x.toInstant())
+                            : timestampLiteral(x.toLocalDateTime(), cal),
+                    Types.TIMESTAMP);
+        }
     }
 
     @Override
@@ -45,10 +45,23 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Calendar;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.TimeZone;
+import java.util.UUID;
 import java.util.logging.Level;
 import javax.sql.rowset.serial.SerialBlob;
 import javax.sql.rowset.serial.SerialClob;
@@ -61,27 +74,46 @@ import org.bson.BsonValue;
 import org.bson.UuidRepresentation;
 import org.bson.internal.UuidHelper;
 import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
 
 @AutoLoggable
-public class MongoResultSet implements ResultSet {
+public class MongoResultSet implements ResultSet, MongoColumnarResultSet {
+    // The format of dates stored as strings. Dates are always in UTC. DateTimeFormatter is
+    // immutable and thread safe, so it is shared by all result sets.
+    private static final String STRING_DATE_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+    private static final DateTimeFormatter STRING_DATE_FORMAT =
+            DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
     private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * MILLIS_PER_SECOND;
 
-    // dateFormat cannot be static due to a threading bug in the library.
-    protected SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
-
-    // The current row
+    // The current row. In raw row mode this is a RawBsonDocument, which only decodes the
+    // datasources and fields that are actually read.
     protected BsonDocument current;
     // cursor over all rows
-    protected MongoCursor<BsonDocument> cursor;
+    protected MongoCursor<? extends BsonDocument> cursor;
 
     // The one-indexed number of the current row. Will be zero until
     // next() is called for the first time.
     protected int rowNum = 0;
 
-    protected boolean closed = false;
+    // Volatile, since cancel() closes the result set from another thread.
+    protected volatile boolean closed = false;
     protected MongoStatement statement;
+    // The maximum number of rows of the statement when the result set was created, or 0 for no
+    // limit. The query pipeline is limited too, this only stops reading a cursor which is not.
+    protected long maxRows = 0;
     protected boolean wasNull = false;
     protected MongoResultSetMetaData rsMetaData;
+    // The column locations resolved from rsMetaData, and the datasources resolved for the current row.
+    protected ColumnAccessorPlan accessorPlan;
+    // The converter last used by getObject(int, Class) for each column, indexed by zero-based
+    // column index.
+    private ResolvedConverter[] columnConverters;
+    // The rows read by the last call to nextBatch. Only the first batchSize rows are part of the
+    // batch, the array is reused across batches.
+    private BsonDocument[] batch = new BsonDocument[0];
+    private int batchSize = 0;
     protected MongoLogger logger;
     // Boolean marker true if the JSON representation is Extended JSON. False otherwise.
     protected boolean extJsonMode;
@@ -101,7 +133,7 @@ public class MongoResultSet implements ResultSet {
      */
     public MongoResultSet(
             MongoStatement statement,
-            MongoCursor<BsonDocument> cursor,
+            MongoCursor<? extends BsonDocument> cursor,
             MongoJsonSchema resultSetchema,
             List<List<String>> selectOrder,
             boolean extJsonMode,
@@ -109,6 +141,7 @@ public class MongoResultSet implements ResultSet {
             throws SQLException {
         Preconditions.checkNotNull(statement);
         this.statement = statement;
+        this.maxRows = statement.getLargeMaxRows();
         this.logger =
                 new MongoLogger(
                         this.getClass().getCanonicalName(),
@@ -142,7 +175,7 @@ public class MongoResultSet implements ResultSet {
     }
 
     private void setUpResultset(
-            MongoCursor<BsonDocument> cursor,
+            MongoCursor<? extends BsonDocument> cursor,
             MongoJsonSchema schema,
             List<List<String>> selectOrder,
             boolean sortFieldsAlphabetically,
@@ -151,8 +184,6 @@ public class MongoResultSet implements ResultSet {
             throws SQLException {
         Preconditions.checkNotNull(cursor);
         this.jsonSchema = schema;
-        // dateFormat is not thread safe, so we do not want to make it a static field.
-        dateFormat.setTimeZone(UTC);
         // Only sort the columns alphabetically for SQL statement result sets and not for database metadata result sets.
         // The JDBC specification provides the order for each database metadata result set.
         // Because a lot BI tools will access database metadata columns by index, the specification order must be respected.
@@ -166,6 +197,8 @@ public class MongoResultSet implements ResultSet {
                         parentLogger,
                         statementId,
                         logger.getQueryDiagnostics());
+        this.accessorPlan = new ColumnAccessorPlan(rsMetaData);
+        this.columnConverters = new ResolvedConverter[accessorPlan.getColumnCount()];
     }
 
     // This is only used for testing, and that is why it has package level access, and the
@@ -179,7 +212,7 @@ public class MongoResultSet implements ResultSet {
         if (current == null) {
             throw new SQLException("No current row in the result set. Make sure to call next().");
         }
-        if (i > rsMetaData.getColumnCount()) {
+        if (i < 1 || i > accessorPlan.getColumnCount()) {
             throw new SQLException("Index out of bounds: '" + i + "'.");
         }
     }
@@ -189,12 +222,13 @@ public class MongoResultSet implements ResultSet {
         checkClosed();
         try {
             boolean result;
-            result = cursor.hasNext();
+            result = hasMoreRows();
             logger.log(Level.FINER, "cursor.hasNext()? " + String.valueOf(result));
             if (result) {
                 logger.log(Level.FINEST, "Getting row " + (rowNum + 1));
                 long startTime = System.nanoTime();
                 current = cursor.next();
+                accessorPlan.setRow(current);
                 long endTime = System.nanoTime();
                 logger.log(
                         Level.FINER,
@@ -205,6 +239,8 @@ public class MongoResultSet implements ResultSet {
             }
             return result;
         } catch (Exception e) {
+            // The result set was closed while waiting for rows, for example by cancel().
+            checkClosed();
             throw new SQLException(
                     "Failed to get next result from cursor. Root cause: " + e.getMessage(), e);
         }
@@ -215,8 +251,10 @@ public class MongoResultSet implements ResultSet {
         if (closed) {
             return;
         }
-        cursor.close();
+        // Set first, so that a next() woken up by closing the cursor reports the result set as
+        // closed.
         closed = true;
+        cursor.close();
         if (statement != null && !statement.isClosed && statement.isCloseOnCompletion()) {
             statement.close();
         }
@@ -225,14 +263,17 @@ public class MongoResultSet implements ResultSet {
     @Override
     public boolean isLast() throws SQLException {
         checkClosed();
-        return !cursor.hasNext();
+        return !hasMoreRows();
+    }
+
+    /** @return true if the cursor has rows left, and the maximum number of rows is not reached. */
+    private boolean hasMoreRows() {
+        return (maxRows == 0 || rowNum < maxRows) && cursor.hasNext();
     }
 
     private BsonValue getBsonValue(int columnIndex) throws SQLException {
         checkBounds(columnIndex);
-        MongoColumnInfo columnInfo = rsMetaData.getColumnInfo(columnIndex);
-        BsonDocument datasource = this.current.get(columnInfo.getTableName()).asDocument();
-        return datasource.get(columnInfo.getColumnName());
+        return accessorPlan.get(columnIndex);
     }
 
     private BsonValue getBsonValue(String columnLabel) throws SQLException {
@@ -250,7 +291,7 @@ public class MongoResultSet implements ResultSet {
         }
     }
 
-    private void checkClosed() throws SQLException {
+    protected void checkClosed() throws SQLException {
         if (closed) throw new SQLException("MongoResultSet is closed.");
     }
 
@@ -315,6 +356,27 @@ public class MongoResultSet implements ResultSet {
         }
     }
 
+    private static boolean isUuid(BsonValue o) {
+        if (o.getBsonType() != BsonType.BINARY) {
+            return false;
+        }
+        byte subType = o.asBinary().getType();
+        return subType == BsonBinarySubType.UUID_STANDARD.getValue()
+                || subType == BsonBinarySubType.UUID_LEGACY.getValue();
+    }
+
+    private UUID getUuid(BsonValue o) throws SQLException {
+        if (!isUuid(o)) {
+            throw new SQLException(
+                    "The "
+                            + BsonTypeInfo.getBsonTypeInfoFromBsonValue(o).getBsonName()
+                            + " type cannot be converted to UUID.");
+        }
+        BsonBinary binary = o.asBinary();
+        return UuidHelper.decodeBinaryToUuid(
+                binary.getData(), binary.getType(), uuidRepresentation);
+    }
+
     @Override
     public byte[] getBytes(int columnIndex) throws SQLException {
         BsonValue out = getBsonValue(columnIndex);
@@ -394,7 +456,7 @@ public class MongoResultSet implements ResultSet {
         if (checkNull(o)) {
             return null;
         }
-        return new MongoBsonValue(o, extJsonMode, uuidRepresentation).toString();
+        return MongoBsonValue.toString(o, extJsonMode, uuidRepresentation);
     }
 
     @Override
@@ -498,7 +560,14 @@ public class MongoResultSet implements ResultSet {
         if (checkNull(o)) {
             return 0;
         }
-        return (int) getLong(o);
+        return toInt(getLong(o));
+    }
+
+    private static int toInt(long value) throws SQLException {
+        if ((int) value != value) {
+            throw new SQLException("The value " + value + " is out of the range of int.");
+        }
+        return (int) value;
     }
 
     @Override
@@ -684,14 +753,8 @@ public class MongoResultSet implements ResultSet {
             case Types.BINARY:
             case Types.LONGVARBINARY:
             case Types.VARBINARY:
-                if (o.getBsonType() == BsonType.BINARY) {
-                    BsonBinary binary = o.asBinary();
-                    if (binary.getType() == BsonBinarySubType.UUID_STANDARD.getValue()
-                            || binary.getType() == BsonBinarySubType.UUID_LEGACY.getValue()) {
-                        // Handle UUID
-                        return UuidHelper.decodeBinaryToUuid(
-                                binary.getData(), binary.getType(), uuidRepresentation);
-                    }
+                if (isUuid(o)) {
+                    return getUuid(o);
                 }
                 return o.asBinary().getData();
             case Types.BIT:
@@ -751,7 +814,7 @@ public class MongoResultSet implements ResultSet {
     @Override
     public Object getObject(int columnIndex) throws SQLException {
         BsonValue out = getBsonValue(columnIndex);
-        int columnType = rsMetaData.getColumnType(columnIndex);
+        int columnType = accessorPlan.getColumnType(columnIndex);
         return getObject(out, columnType);
     }
 
@@ -782,13 +845,147 @@ public class MongoResultSet implements ResultSet {
         return getObject(findColumn(columnLabel), map);
     }
 
+    /** Converts a non-null value to a class requested from getObject(int, Class). */
+    @FunctionalInterface
+    private interface TypedConverter {
+        Object convert(MongoResultSet rs, BsonValue o) throws SQLException;
+    }
+
+    /** A converter resolved for a (BSON type, target class) pair. */
+    private static final class ResolvedConverter {
+        private final BsonType bsonType;
+        private final Class<?> type;
+        private final TypedConverter converter;
+
+        private ResolvedConverter(BsonType bsonType, Class<?> type, TypedConverter converter) {
+            this.bsonType = bsonType;
+            this.type = type;
+            this.converter = converter;
+        }
+    }
+
+    // Converters for the classes supported by getObject(int, Class), whatever the BSON type of the
+    // value. They apply the same conversions as the typed getters.
+    private static final Map<Class<?>, TypedConverter> CONVERTERS_BY_CLASS = new HashMap<>();
+    // Converters for (BSON type, class) pairs which can read the value directly. They take
+    // precedence over CONVERTERS_BY_CLASS.
+    private static final Map<BsonType, Map<Class<?>, TypedConverter>> CONVERTERS_BY_BSON_TYPE =
+            new EnumMap<>(BsonType.class);
+    // The classes a primitive class requested from getObject(int, Class) is read as.
+    private static final Map<Class<?>, Class<?>> BOXED_TYPES = new HashMap<>();
+
+    static {
+        CONVERTERS_BY_CLASS.put(Boolean.class, (rs, o) -> rs.getBoolean(o));
+        CONVERTERS_BY_CLASS.put(Byte.class, (rs, o) -> rs.getByte(o));
+        CONVERTERS_BY_CLASS.put(Short.class, (rs, o) -> rs.getShort(o));
+        CONVERTERS_BY_CLASS.put(Integer.class, (rs, o) -> rs.getInt(o));
+        CONVERTERS_BY_CLASS.put(Long.class, (rs, o) -> rs.getLong(o));
+        CONVERTERS_BY_CLASS.put(Float.class, (rs, o) -> rs.getFloat(o));
+        CONVERTERS_BY_CLASS.put(Double.class, (rs, o) -> rs.getDouble(o));
+        CONVERTERS_BY_CLASS.put(BigDecimal.class, (rs, o) -> rs.getBigDecimal(o));
+        CONVERTERS_BY_CLASS.put(String.class, (rs, o) -> rs.getString(o));
+        CONVERTERS_BY_CLASS.put(byte[].class, (rs, o) -> rs.getBytes(o));
+        CONVERTERS_BY_CLASS.put(UUID.class, (rs, o) -> rs.getUuid(o));
+        CONVERTERS_BY_CLASS.put(Date.class, (rs, o) -> new Date(rs.getEpochMillis(o)));
+        CONVERTERS_BY_CLASS.put(Time.class, (rs, o) -> new Time(rs.getEpochMillis(o)));
+        CONVERTERS_BY_CLASS.put(Timestamp.class, (rs, o) -> new Timestamp(rs.getEpochMillis(o)));
+        CONVERTERS_BY_CLASS.put(Instant.class, (rs, o) -> toInstant(rs.getEpochMillis(o)));
+        CONVERTERS_BY_CLASS.put(
+                LocalDateTime.class, (rs, o) -> toLocalDateTime(rs.getEpochMillis(o)));
+        CONVERTERS_BY_CLASS.put(
+                OffsetDateTime.class, (rs, o) -> toOffsetDateTime(rs.getEpochMillis(o)));
+        CONVERTERS_BY_CLASS.put(LocalDate.class, (rs, o) -> toLocalDate(rs.getEpochMillis(o)));
+        CONVERTERS_BY_CLASS.put(
+                java.util.Date.class, (rs, o) -> new java.util.Date(rs.getEpochMillis(o)));
+
+        BOXED_TYPES.put(boolean.class, Boolean.class);
+        BOXED_TYPES.put(byte.class, Byte.class);
+        BOXED_TYPES.put(short.class, Short.class);
+        BOXED_TYPES.put(int.class, Integer.class);
+        BOXED_TYPES.put(long.class, Long.class);
+        BOXED_TYPES.put(float.class, Float.class);
+        BOXED_TYPES.put(double.class, Double.class);
+
+        addConverter(BsonType.BOOLEAN, Boolean.class, (rs, o) -> o.asBoolean().getValue());
+        addConverter(BsonType.INT32, Integer.class, (rs, o) -> o.asInt32().getValue());
+        addConverter(BsonType.INT64, Long.class, (rs, o) -> o.asInt64().getValue());
+        addConverter(BsonType.DOUBLE, Double.class, (rs, o) -> o.asDouble().getValue());
+        addConverter(
+                BsonType.DECIMAL128,
+                BigDecimal.class,
+                (rs, o) -> o.asDecimal128().decimal128Value().bigDecimalValue());
+        addConverter(BsonType.STRING, String.class, (rs, o) -> o.asString().getValue());
+        addConverter(BsonType.BINARY, byte[].class, (rs, o) -> o.asBinary().getData());
+        addConverter(BsonType.OBJECT_ID, ObjectId.class, (rs, o) -> o.asObjectId().getValue());
+        addConverter(
+                BsonType.DATE_TIME,
+                Instant.class,
+                (rs, o) -> toInstant(o.asDateTime().getValue()));
+        addConverter(
+                BsonType.DATE_TIME,
+                Timestamp.class,
+                (rs, o) -> new Timestamp(o.asDateTime().getValue()));
+    }
+
+    private static void addConverter(BsonType bsonType, Class<?> type, TypedConverter converter) {
+        CONVERTERS_BY_BSON_TYPE
+                .computeIfAbsent(bsonType, k -> new HashMap<>())
+                .put(type, converter);
+    }
+
+    /**
+     * Looks up the converter for a (BSON type, class) pair. BsonValue classes, and Object, are
+     * returned as is. Any other class that is not in the registry cannot be converted to.
+     *
+     * @param bsonType The BSON type of the value.
+     * @param type The requested class.
+     * @return the converter.
+     */
+    private static TypedConverter resolveConverter(BsonType bsonType, Class<?> type) {
+        Map<Class<?>, TypedConverter> bsonTypeConverters = CONVERTERS_BY_BSON_TYPE.get(bsonType);
+        TypedConverter converter =
+                bsonTypeConverters == null ? null : bsonTypeConverters.get(type);
+        if (converter == null) {
+            converter = CONVERTERS_BY_CLASS.get(type);
+        }
+        if (converter == null) {
+            if (type == Object.class || BsonValue.class.isAssignableFrom(type)) {
+                converter = (rs, o) -> o;
+            } else {
+                converter =
+                        (rs, o) -> {
+                            throw new SQLException(
+                                    "The "
+                                            + BsonTypeInfo.getBsonTypeInfoFromBsonValue(o)
+                                                    .getBsonName()
+                                            + " type cannot be converted to "
+                                            + type.getName()
+                                            + ".");
+                        };
+            }
+        }
+        return converter;
+    }
+
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
         BsonValue out = getBsonValue(columnIndex);
         if (checkNull(out)) {
             return null;
         }
-        return type.cast(out);
+        // A primitive class is read as its boxed class, which Class.cast() cannot cast to.
+        Class<?> target = BOXED_TYPES.getOrDefault(type, type);
+        // The converter is resolved the first time a column is read as a class, and again only
+        // when the BSON type of the column or the requested class changes.
+        BsonType bsonType = out.getBsonType();
+        ResolvedConverter resolved = columnConverters[columnIndex - 1];
+        if (resolved == null || resolved.bsonType != bsonType || resolved.type != target) {
+            resolved =
+                    new ResolvedConverter(bsonType, target, resolveConverter(bsonType, target));
+            columnConverters[columnIndex - 1] = resolved;
+        }
+        return (T) target.cast(resolved.converter.convert(this, out));
     }
 
     @Override
@@ -1360,44 +1557,80 @@ public class MongoResultSet implements ResultSet {
                 Thread.currentThread().getStackTrace()[1].toString());
     }
 
-    private java.util.Date handleUtilDateConversionFailure(String from) throws SQLException {
-        throw new SQLException("The " + from + " type cannot be converted to java.util.Date");
-    }
-
-    private java.util.Date getUtilDate(BsonValue o) throws SQLException {
-        if (checkNull(o)) {
-            return null;
-        }
-        BsonTypeInfo bsonType = BsonTypeInfo.getBsonTypeInfoFromBsonValue(o);
+    /**
+     * Returns the date value as milliseconds since the epoch. Dates are read through this method
+     * so that no intermediate java.util.Date is created for each cell. The caller is responsible
+     * for checking that the value is not null.
+     *
+     * @param o The non-null value.
+     * @return the number of milliseconds since the epoch.
+     * @throws SQLException if the value cannot be converted to a date.
+     */
+    private long getEpochMillis(BsonValue o) throws SQLException {
         switch (o.getBsonType()) {
             case DATE_TIME:
-                return new java.util.Date(o.asDateTime().getValue());
+                return o.asDateTime().getValue();
             case DECIMAL128:
-                return new Date(o.asDecimal128().longValue());
+                return o.asDecimal128().longValue();
             case DOUBLE:
-                return new Date((long) o.asDouble().getValue());
+                return (long) o.asDouble().getValue();
             case INT32:
-                return new Date(o.asInt32().getValue());
+                return o.asInt32().getValue();
             case INT64:
-                return new Date(o.asInt64().getValue());
-            case UNDEFINED:
-                // this is consistent with $convert in mongodb.
-            case NULL:
-                return null;
+                return o.asInt64().getValue();
             case STRING:
-                try {
-                    return dateFormat.parse(o.asString().getValue());
-                } catch (ParseException e) {
-                    throw new SQLException(e);
-                }
+                return parseEpochMillis(o.asString().getValue());
             default:
-                return handleUtilDateConversionFailure(bsonType.getBsonName());
+                throw new SQLException(
+                        "The "
+                                + BsonTypeInfo.getBsonTypeInfoFromBsonValue(o).getBsonName()
+                                + " type cannot be converted to java.util.Date");
         }
     }
 
+    /**
+     * Parses a date stored as a string. Well formed dates are parsed by the shared formatter. The
+     * others go through a lenient SimpleDateFormat like they always did, so that dates with
+     * trailing text, unpadded fields or out of range fields keep converting the same way.
+     */
+    static long parseEpochMillis(String date) throws SQLException {
+        try {
+            return Instant.from(STRING_DATE_FORMAT.parse(date)).toEpochMilli();
+        } catch (DateTimeException e) {
+            // SimpleDateFormat is not thread safe, it is only created for the rare malformed dates.
+            SimpleDateFormat lenientFormat = new SimpleDateFormat(STRING_DATE_PATTERN);
+            lenientFormat.setTimeZone(UTC);
+            try {
+                return lenientFormat.parse(date).getTime();
+            } catch (ParseException pe) {
+                throw new SQLException(pe);
+            }
+        }
+    }
+
+    // The java.time conversions used by getObject(int, Class). All java.time values are in UTC.
+
+    private static Instant toInstant(long millis) {
+        return Instant.ofEpochMilli(millis);
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(millis, MILLIS_PER_SECOND),
+                (int) Math.floorMod(millis, MILLIS_PER_SECOND) * 1_000_000,
+                ZoneOffset.UTC);
+    }
+
+    private static OffsetDateTime toOffsetDateTime(long millis) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+
+    private static LocalDate toLocalDate(long millis) {
+        return LocalDate.ofEpochDay(Math.floorDiv(millis, MILLIS_PER_DAY));
+    }
+
     private Date getDate(BsonValue o) throws SQLException {
-        java.util.Date utilDate = getUtilDate(o);
-        return (utilDate == null) ? null : new Date(utilDate.getTime());
+        return checkNull(o) ? null : new Date(getEpochMillis(o));
     }
 
     @Override
@@ -1412,29 +1645,19 @@ public class MongoResultSet implements ResultSet {
         return getDate(out);
     }
 
+    // BSON dates are instants in UTC, so the calendar does not change the returned value.
     @Override
     public Date getDate(int columnIndex, Calendar cal) throws SQLException {
-        Date d = getDate(columnIndex);
-        if (d == null) {
-            return null;
-        }
-        cal.setTime(d);
-        return new Date(cal.getTime().getTime());
+        return getDate(columnIndex);
     }
 
     @Override
     public Date getDate(String columnLabel, Calendar cal) throws SQLException {
-        Date d = getDate(columnLabel);
-        if (d == null) {
-            return null;
-        }
-        cal.setTime(d);
-        return new Date(cal.getTime().getTime());
+        return getDate(columnLabel);
     }
 
     protected Time getTime(BsonValue o) throws SQLException {
-        java.util.Date utilDate = getUtilDate(o);
-        return (utilDate == null) ? null : new Time(utilDate.getTime());
+        return checkNull(o) ? null : new Time(getEpochMillis(o));
     }
 
     @Override
@@ -1451,27 +1674,16 @@ public class MongoResultSet implements ResultSet {
 
     @Override
     public Time getTime(int columnIndex, Calendar cal) throws SQLException {
-        Time d = getTime(columnIndex);
-        if (d == null) {
-            return null;
-        }
-        cal.setTime(d);
-        return new Time(cal.getTime().getTime());
+        return getTime(columnIndex);
     }
 
     @Override
     public Time getTime(String columnLabel, Calendar cal) throws SQLException {
-        Time d = getTime(columnLabel);
-        if (d == null) {
-            return null;
-        }
-        cal.setTime(d);
-        return new Time(cal.getTime().getTime());
+        return getTime(columnLabel);
     }
 
     protected Timestamp getTimestamp(BsonValue o) throws SQLException {
-        java.util.Date utilDate = getUtilDate(o);
-        return (utilDate == null) ? null : new Timestamp(utilDate.getTime());
+        return checkNull(o) ? null : new Timestamp(getEpochMillis(o));
     }
 
     @Override
@@ -1488,22 +1700,12 @@ public class MongoResultSet implements ResultSet {
 
     @Override
     public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
-        Timestamp d = getTimestamp(columnIndex);
-        if (d == null) {
-            return null;
-        }
-        cal.setTime(d);
-        return new Timestamp(cal.getTime().getTime());
+        return getTimestamp(columnIndex);
     }
 
     @Override
     public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
-        Timestamp d = getTimestamp(columnLabel);
-        if (d == null) {
-            return null;
-        }
-        cal.setTime(d);
-        return new Timestamp(cal.getTime().getTime());
+        return getTimestamp(columnLabel);
     }
 
     // -------------------------- JDBC 3.0 ----------------------------------------
@@ -1897,6 +2099,146 @@ public class MongoResultSet implements ResultSet {
     }
 
     // java.sql.Wrapper impl
+    // ------------------------- MongoColumnarResultSet --------------------------------
+
+    @Override
+    public int nextBatch(int batchRows) throws SQLException {
+        checkClosed();
+        if (batchRows < 0) {
+            throw new SQLException("The batch size must be greater than or equal to 0.");
+        }
+        if (batch.length < batchRows) {
+            batch = new BsonDocument[batchRows];
+        }
+        int n = 0;
+        try {
+            while (n < batchRows && advanceRow()) {
+                batch[n++] = current;
+            }
+        } catch (SQLException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SQLException(
+                    "Failed to get next result from cursor. Root cause: " + e.getMessage(), e);
+        }
+        // Release the rows of the previous batch which were not overwritten.
+        Arrays.fill(batch, n, Math.max(n, batchSize), null);
+        batchSize = n;
+        logger.log(Level.FINER, "Read a batch of " + n + " rows");
+        if (n > 0) {
+            accessorPlan.setRow(current);
+        }
+        return n;
+    }
+
+    /**
+     * Moves to the next row for nextBatch, without the per row logging of next(). The accessor plan
+     * is not moved to the new row.
+     *
+     * @return true if there was a next row, false otherwise.
+     * @throws SQLException if the next row cannot be read.
+     */
+    protected boolean advanceRow() throws SQLException {
+        if (!hasMoreRows()) {
+            return false;
+        }
+        current = cursor.next();
+        ++rowNum;
+        return true;
+    }
+
+    private void checkBatchColumn(int columnIndex, int length, BitSet nulls)
+            throws SQLException {
+        checkClosed();
+        if (columnIndex < 1 || columnIndex > accessorPlan.getColumnCount()) {
+            throw new SQLException("Index out of bounds: '" + columnIndex + "'.");
+        }
+        if (length < batchSize) {
+            throw new SQLException(
+                    "The array length " + length + " is less than the batch size " + batchSize);
+        }
+        nulls.clear(0, batchSize);
+    }
+
+    @Override
+    public void getLongs(int columnIndex, long[] values, BitSet nulls) throws SQLException {
+        checkBatchColumn(columnIndex, values.length, nulls);
+        for (int i = 0; i < batchSize; i++) {
+            BsonValue o = accessorPlan.get(batch[i], columnIndex);
+            if (checkNull(o)) {
+                nulls.set(i);
+                values[i] = 0L;
+            } else if (o.getBsonType() == BsonType.INT64) {
+                values[i] = o.asInt64().getValue();
+            } else if (o.getBsonType() == BsonType.INT32) {
+                values[i] = o.asInt32().getValue();
+            } else {
+                values[i] = getLong(o);
+            }
+        }
+    }
+
+    @Override
+    public void getInts(int columnIndex, int[] values, BitSet nulls) throws SQLException {
+        checkBatchColumn(columnIndex, values.length, nulls);
+        for (int i = 0; i < batchSize; i++) {
+            BsonValue o = accessorPlan.get(batch[i], columnIndex);
+            if (checkNull(o)) {
+                nulls.set(i);
+                values[i] = 0;
+            } else if (o.getBsonType() == BsonType.INT32) {
+                values[i] = o.asInt32().getValue();
+            } else {
+                values[i] = toInt(getLong(o));
+            }
+        }
+    }
+
+    @Override
+    public void getDoubles(int columnIndex, double[] values, BitSet nulls) throws SQLException {
+        checkBatchColumn(columnIndex, values.length, nulls);
+        for (int i = 0; i < batchSize; i++) {
+            BsonValue o = accessorPlan.get(batch[i], columnIndex);
+            if (checkNull(o)) {
+                nulls.set(i);
+                values[i] = 0.0;
+            } else if (o.getBsonType() == BsonType.DOUBLE) {
+                values[i] = o.asDouble().getValue();
+            } else {
+                values[i] = getDouble(o);
+            }
+        }
+    }
+
+    @Override
+    public void getStrings(int columnIndex, String[] values, BitSet nulls) throws SQLException {
+        checkBatchColumn(columnIndex, values.length, nulls);
+        for (int i = 0; i < batchSize; i++) {
+            BsonValue o = accessorPlan.get(batch[i], columnIndex);
+            if (checkNull(o)) {
+                nulls.set(i);
+                values[i] = null;
+            } else {
+                values[i] = MongoBsonValue.toString(o, extJsonMode, uuidRepresentation);
+            }
+        }
+    }
+
+    @Override
+    public void getBsonValues(int columnIndex, BsonValue[] values, BitSet nulls)
+            throws SQLException {
+        checkBatchColumn(columnIndex, values.length, nulls);
+        for (int i = 0; i < batchSize; i++) {
+            BsonValue o = accessorPlan.get(batch[i], columnIndex);
+            if (checkNull(o)) {
+                nulls.set(i);
+                values[i] = null;
+            } else {
+                values[i] = o;
+            }
+        }
+    }
+
     @Override
     public boolean isWrapperFor(Class<?> iface) throws SQLException {
         return iface.isInstance(this);
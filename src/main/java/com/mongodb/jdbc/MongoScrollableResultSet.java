@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import com.mongodb.client.MongoCursor;
+import com.mongodb.jdbc.logging.AutoLoggable;
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.logging.Level;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.UuidRepresentation;
+import org.bson.codecs.BsonDocumentCodec;
+
+/**
+ * MongoScrollableResultSet is a TYPE_SCROLL_INSENSITIVE result set. Rows are read from the cursor
+ * only when the result set is first moved to them, and are kept as raw BSON in a {@link
+ * SpillableRowBuffer}, so moving back to them does not query the cluster again.
+ */
+@AutoLoggable
+public class MongoScrollableResultSet extends MongoResultSet {
+    private final SpillableRowBuffer rowBuffer;
+    // True once all the rows have been read from the cursor.
+    private boolean exhausted = false;
+
+    /**
+     * Constructor for a scrollable result set tied to a statement.
+     *
+     * @param statement The statement this result set is related to.
+     * @param cursor The result set cursor.
+     * @param resultSetchema The result set schema.
+     * @param selectOrder The select list order.
+     * @param extJsonMode The JSON mode.
+     * @param uuidRepresentation The UUID representation.
+     * @param memoryLimit The number of bytes of rows to keep in memory before spilling to disk.
+     * @throws SQLException
+     */
+    public MongoScrollableResultSet(
+            MongoStatement statement,
+            MongoCursor<? extends BsonDocument> cursor,
+            MongoJsonSchema resultSetchema,
+            List<List<String>> selectOrder,
+            boolean extJsonMode,
+            UuidRepresentation uuidRepresentation,
+            long memoryLimit)
+            throws SQLException {
+        super(statement, cursor, resultSetchema, selectOrder, extJsonMode, uuidRepresentation);
+        this.rowBuffer = new SpillableRowBuffer(memoryLimit);
+    }
+
+    /**
+     * Reads rows from the cursor until the buffer holds at least the given number of rows, or the
+     * cursor is exhausted.
+     *
+     * @param rowCount The number of rows needed.
+     * @throws SQLException if the rows cannot be read or buffered.
+     */
+    private void fetchUpTo(int rowCount) throws SQLException {
+        try {
+            while (!exhausted && rowBuffer.size() < rowCount) {
+                if ((maxRows == 0 || rowBuffer.size() < maxRows) && cursor.hasNext()) {
+                    BsonDocument row = cursor.next();
+                    rowBuffer.add(
+                            row instanceof RawBsonDocument
+                                    ? (RawBsonDocument) row
+                                    : new RawBsonDocument(row, new BsonDocumentCodec()));
+                } else {
+                    exhausted = true;
+                    // All the rows are buffered, the server cursor is not needed anymore.
+                    cursor.close();
+                    logger.log(
+                            Level.FINE,
+                            "Buffered "
+                                    + rowBuffer.size()
+                                    + " rows"
+                                    + (rowBuffer.hasSpilled() ? ", spilled to disk" : ""));
+                }
+            }
+        } catch (IOException e) {
+            throw new SQLException("Failed to buffer the result set rows: " + e.getMessage(), e);
+        } catch (SQLException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SQLException(
+                    "Failed to get next result from cursor. Root cause: " + e.getMessage(), e);
+        }
+    }
+
+    private void fetchAll() throws SQLException {
+        fetchUpTo(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Moves to a row. Rows before the first row move the result set before the first row, and rows
+     * after the last row move it after the last row.
+     *
+     * @param row The one-based row number.
+     * @return true if the result set is on a row.
+     * @throws SQLException if the rows cannot be read.
+     */
+    private boolean moveTo(long row) throws SQLException {
+        checkClosed();
+        if (row < 1) {
+            rowNum = 0;
+            current = null;
+            return false;
+        }
+        if (row > Integer.MAX_VALUE) {
+            fetchAll();
+        } else {
+            fetchUpTo((int) row);
+        }
+        if (row > rowBuffer.size()) {
+            rowNum = rowBuffer.size() + 1;
+            current = null;
+            return false;
+        }
+        rowNum = (int) row;
+        try {
+            current = rowBuffer.get(rowNum - 1);
+        } catch (IOException e) {
+            throw new SQLException("Failed to read a buffered row: " + e.getMessage(), e);
+        }
+        accessorPlan.setRow(current);
+        return true;
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        return moveTo((long) rowNum + 1);
+    }
+
+    @Override
+    protected boolean advanceRow() throws SQLException {
+        return moveTo((long) rowNum + 1);
+    }
+
+    @Override
+    public boolean previous() throws SQLException {
+        return moveTo((long) rowNum - 1);
+    }
+
+    @Override
+    public boolean first() throws SQLException {
+        return moveTo(1);
+    }
+
+    @Override
+    public boolean last() throws SQLException {
+        checkClosed();
+        fetchAll();
+        return moveTo(rowBuffer.size());
+    }
+
+    @Override
+    public void beforeFirst() throws SQLException {
+        moveTo(0);
+    }
+
+    @Override
+    public void afterLast() throws SQLException {
+        checkClosed();
+        fetchAll();
+        moveTo((long) rowBuffer.size() + 1);
+    }
+
+    @Override
+    public boolean absolute(int row) throws SQLException {
+        if (row >= 0) {
+            return moveTo(row);
+        }
+        // Negative rows are counted from the end of the result set.
+        checkClosed();
+        fetchAll();
+        return moveTo((long) rowBuffer.size() + 1 + row);
+    }
+
+    @Override
+    public boolean relative(int rows) throws SQLException {
+        return moveTo((long) rowNum + rows);
+    }
+
+    /** @return the current row number, or 0 if the result set is not on a row. */
+    @Override
+    public int getRow() throws SQLException {
+        checkClosed();
+        return current == null ? 0 : rowNum;
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        checkClosed();
+        fetchUpTo(1);
+        return rowNum == 0 && rowBuffer.size() > 0;
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        checkClosed();
+        return exhausted && rowBuffer.size() > 0 && rowNum > rowBuffer.size();
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        checkClosed();
+        if (current == null) {
+            return false;
+        }
+        fetchUpTo(rowNum + 1);
+        return rowNum == rowBuffer.size();
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        checkClosed();
+        if (direction != ResultSet.FETCH_FORWARD
+                && direction != ResultSet.FETCH_REVERSE
+                && direction != ResultSet.FETCH_UNKNOWN) {
+            throw new SQLException("Invalid fetch direction: " + direction);
+        }
+        // The direction is only a hint, and rows are buffered whatever the direction.
+    }
+
+    @Override
+    public int getType() throws SQLException {
+        checkClosed();
+        return ResultSet.TYPE_SCROLL_INSENSITIVE;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        try {
+            rowBuffer.close();
+        } catch (IOException e) {
+            logger.log(Level.FINE, "Failed to delete the buffered rows: " + e.getMessage());
+        }
+        super.close();
+    }
+}
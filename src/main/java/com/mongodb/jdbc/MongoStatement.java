@@ -17,7 +17,10 @@
 package com.mongodb.jdbc;
 
 import com.google.common.base.Preconditions;
+import com.mongodb.ExplainVerbosity;
 import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.MongoIterable;
@@ -27,19 +30,52 @@ import com.mongodb.jdbc.logging.QueryDiagnostics;
 import com.mongodb.jdbc.mongosql.GetNamespacesResult;
 import com.mongodb.jdbc.mongosql.MongoSQLException;
 import com.mongodb.jdbc.mongosql.MongoSQLTranslate;
+import com.mongodb.jdbc.mongosql.ParameterizedQuery;
+import com.mongodb.jdbc.mongosql.SchemaCatalogCache;
 import com.mongodb.jdbc.mongosql.TranslateResult;
+import com.mongodb.jdbc.mongosql.TranslationCache;
+import com.mongodb.jdbc.utils.MongoThreads;
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import org.apache.commons.text.StringEscapeUtils;
+import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
+import org.bson.BsonInt64;
 import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
 
 @AutoLoggable
 public class MongoStatement implements Statement {
     private static final BsonInt32 BSON_ONE_INT_VALUE = new BsonInt32(1);
+    private static final String ADMIN_DATABASE = "admin";
+    private static final String OPERATION_COMMENT_PREFIX = "mongodb-jdbc-";
+    // The SQL state of a cancelled operation.
+    private static final String CANCELLED_SQL_STATE = "HY008";
+    // Below JDK 21, the maximum number of platform threads of each executor. Further tasks wait
+    // for a thread.
+    static final int MAX_PLATFORM_THREADS = 16;
+    // Runs the queries of executeQueryAsync without an executor of the application.
+    private static final Executor ASYNC_EXECUTOR =
+            MongoThreads.newExecutor("mongodb-jdbc-async-query", MAX_PLATFORM_THREADS);
+    // Runs the queries of a batch concurrently.
+    private static final Executor BATCH_EXECUTOR =
+            MongoThreads.newExecutor("mongodb-jdbc-batch-query", MAX_PLATFORM_THREADS);
+    // Runs the result schema requests of Atlas Data Federation queries alongside their aggregate.
+    private static final Executor RESULT_SCHEMA_EXECUTOR =
+            MongoThreads.newExecutor("mongodb-jdbc-result-schema", MAX_PLATFORM_THREADS);
+    // Opens the cursors of the partitions of a collection scan concurrently.
+    private static final Executor PARTITION_EXECUTOR =
+            MongoThreads.newExecutor("mongodb-jdbc-partition-open", MAX_PLATFORM_THREADS);
 
     // Likely, the actual mongo sql command will not
     // need a database or collection, since those
@@ -50,14 +86,49 @@ public class MongoStatement implements Statement {
     protected boolean isClosed = false;
     protected boolean closeOnCompletion = false;
     private int fetchSize = 0;
+    // The maximum number of rows of a result set, or 0 for no limit.
+    private long maxRows = 0;
     private int maxQuerySec = 0;
+    // The query timeout of the running query in seconds, or 0 for none, and the System.nanoTime()
+    // at which it expires. The timeout covers all the steps of the query.
+    private int deadlineTimeoutSec = 0;
+    private long deadlineNanos;
+    private final int resultSetType;
     private MongoLogger logger;
     private int statementId;
     String cursorName;
+    // The comment tagging the server operations of the last query, used by cancel() to find them.
+    private volatile String operationComment;
+    private final Object cancelLock = new Object();
+    // The thread running a query, interrupted by cancel(). Guarded by cancelLock.
+    private Thread executingThread;
+    private volatile boolean cancelled = false;
+    // Whether an asynchronous query was submitted and did not complete, and whether cancel() was
+    // called before it started. Guarded by cancelLock.
+    private boolean asyncQueryPending = false;
+    private boolean cancelOnStart = false;
+    // The queries added with addBatch.
+    private final List<String> batch = new ArrayList<>();
+    // The statements running the queries of the current batch, for cancel().
+    private volatile List<MongoStatement> batchStatements = Collections.emptyList();
+    // The result sets of a batch following the current result set, in the order of the queries.
+    private final Deque<MongoResultSet> pendingResultSets = new ArrayDeque<>();
 
     public MongoStatement(MongoConnection conn, String databaseName) throws SQLException {
+        this(conn, databaseName, ResultSet.TYPE_FORWARD_ONLY);
+    }
+
+    /**
+     * @param conn The connection.
+     * @param databaseName The current database.
+     * @param resultSetType ResultSet.TYPE_FORWARD_ONLY or ResultSet.TYPE_SCROLL_INSENSITIVE.
+     * @throws SQLException
+     */
+    public MongoStatement(MongoConnection conn, String databaseName, int resultSetType)
+            throws SQLException {
         Preconditions.checkNotNull(conn);
         Preconditions.checkNotNull(databaseName);
+        this.resultSetType = resultSetType;
         this.statementId = conn.getNextStatementId();
         logger = new MongoLogger(this.getClass().getCanonicalName(), conn.getLogger(), statementId);
         this.conn = conn;
@@ -95,14 +166,134 @@ public class MongoStatement implements Statement {
         }
     }
 
-    private BsonDocument constructSQLGetResultSchemaDocument(String sql) {
+    private BsonDocument constructSQLGetResultSchemaDocument(String sql, long maxTimeMS) {
         BsonDocument command = new BsonDocument();
         command.put("sqlGetResultSchema", BSON_ONE_INT_VALUE);
         command.put("query", new BsonString(sql));
         command.put("schemaVersion", BSON_ONE_INT_VALUE);
+        if (maxTimeMS > 0) {
+            command.put("maxTimeMS", new BsonInt64(maxTimeMS));
+        }
         return command;
     }
 
+    /** Starts the query timeout of a query. */
+    private void startDeadline() {
+        deadlineTimeoutSec = maxQuerySec;
+        deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(maxQuerySec);
+    }
+
+    /**
+     * Returns the time left before the query timeout expires, which bounds the next server
+     * command of the query.
+     *
+     * @return the number of milliseconds left, or 0 if the query has no timeout.
+     * @throws SQLTimeoutException if the query timeout expired.
+     */
+    private long remainingTimeMS() throws SQLTimeoutException {
+        if (deadlineTimeoutSec == 0) {
+            return 0;
+        }
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (remainingNanos <= 0) {
+            throw new SQLTimeoutException(
+                    "The query timeout of " + deadlineTimeoutSec + " seconds expired.");
+        }
+        // Round up, 0 would mean no limit.
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(remainingNanos));
+    }
+
+    /**
+     * Returns the class the query cursors decode their rows into. In raw row mode, rows are kept as
+     * undecoded RawBsonDocument and the result set only decodes the fields a getter reads.
+     * Scrollable result sets buffer their rows as raw BSON, and the query result cache keeps raw
+     * BSON rows, so they always read RawBsonDocument.
+     *
+     * @return RawBsonDocument.class in raw row mode, for scrollable result sets or when results
+     *     are cached, BsonDocument.class otherwise.
+     */
+    private Class<? extends BsonDocument> getRowClass() {
+        return conn.getRawRowMode()
+                        || resultSetType == ResultSet.TYPE_SCROLL_INSENSITIVE
+                        || conn.getQueryResultCache() != null
+                ? RawBsonDocument.class
+                : BsonDocument.class;
+    }
+
+    /**
+     * Appends a $limit stage to a pipeline when the statement has a maximum number of rows, so
+     * that the server does not produce rows the result set would not return.
+     *
+     * @param pipeline The query pipeline, which is not modified.
+     * @return the pipeline to run.
+     */
+    private List<BsonDocument> withMaxRowsLimit(List<BsonDocument> pipeline) {
+        if (maxRows == 0) {
+            return pipeline;
+        }
+        List<BsonDocument> limited = new ArrayList<>(pipeline.size() + 1);
+        limited.addAll(pipeline);
+        limited.add(new BsonDocument("$limit", new BsonInt64(maxRows)));
+        return limited;
+    }
+
+    /**
+     * Runs a query. The fetch size set on the statement is the batch size, and when there is none,
+     * the batch size adapts to the previous executions of the query if the connection is in
+     * adaptive fetch size mode.
+     *
+     * @param iterable The query.
+     * @param sql The SQL query, which identifies the query across executions.
+     */
+    private MongoCursor<? extends BsonDocument> openCursor(
+            MongoIterable<? extends BsonDocument> iterable, String sql) {
+        if (fetchSize != 0) {
+            return iterable.batchSize(fetchSize).cursor();
+        }
+        if (conn.getAdaptiveFetchSize()) {
+            return AdaptiveBatchCursor.open(
+                    iterable, conn.getBatchSizeHistory(), sql, conn.getAdaptiveFetchMemoryLimit());
+        }
+        return iterable.cursor();
+    }
+
+    private MongoResultSet newResultSet(
+            MongoCursor<? extends BsonDocument> cursor,
+            MongoJsonSchema schema,
+            List<List<String>> selectOrder)
+            throws SQLException {
+        return newResultSet(cursor, schema, selectOrder, conn.getCursorPrefetch());
+    }
+
+    /** @param prefetch True to read the batches of the cursor ahead on a background thread. */
+    private MongoResultSet newResultSet(
+            MongoCursor<? extends BsonDocument> cursor,
+            MongoJsonSchema schema,
+            List<List<String>> selectOrder,
+            boolean prefetch)
+            throws SQLException {
+        if (prefetch) {
+            cursor = new PrefetchingCursor<>(cursor);
+        }
+        if (resultSetType == ResultSet.TYPE_SCROLL_INSENSITIVE) {
+            return new MongoScrollableResultSet(
+                    this,
+                    cursor,
+                    schema,
+                    selectOrder,
+                    conn.getExtJsonMode(),
+                    conn.getUuidRepresentation(),
+                    conn.getScrollBufferMemoryLimit());
+        }
+        return new MongoResultSet(
+                this,
+                cursor,
+                schema,
+                selectOrder,
+                conn.getExtJsonMode(),
+                conn.getUuidRepresentation());
+    }
+
     // ----------------------------------------------------------------------
 
     @Override
@@ -135,12 +326,12 @@ public class MongoStatement implements Statement {
     @Override
     public int getMaxRows() throws SQLException {
         checkClosed();
-        return 0;
+        return (int) Math.min(maxRows, Integer.MAX_VALUE);
     }
 
     @Override
     public void setMaxRows(int max) throws SQLException {
-        checkClosed();
+        setLargeMaxRows(max);
     }
 
     @Override
@@ -162,14 +353,27 @@ public class MongoStatement implements Statement {
 
     // Close any existing resultsets associated with this statement.
     protected void closeExistingResultSet() {
+        closeCurrentResultSet();
+        while (!pendingResultSets.isEmpty()) {
+            closeQuietly(pendingResultSets.poll());
+        }
+    }
+
+    private void closeCurrentResultSet() {
         try {
-            if (resultSet != null) {
-                resultSet.close();
+            closeQuietly(resultSet);
+        } finally {
+            resultSet = null;
+        }
+    }
+
+    private static void closeQuietly(ResultSet rs) {
+        try {
+            if (rs != null) {
+                rs.close();
             }
         } catch (SQLException ignored) {
             // The cursor might have already been closed by the server. Ignore exceptiong
-        } finally {
-            resultSet = null;
         }
     }
 
@@ -198,115 +402,623 @@ public class MongoStatement implements Statement {
         return resultSet != null;
     }
 
-    private ResultSet executeAtlasDataFederationQuery(String sql) throws SQLException {
-        BsonDocument getSchemaCmd = constructSQLGetResultSchemaDocument(sql);
+    /**
+     * Returns a result set replaying the cached result of a query.
+     *
+     * @param catalogVersion The version of the schema catalog the query was translated with.
+     * @return the result set, or null if the result of the query is not cached.
+     */
+    private ResultSet replayCachedResult(String dbName, String sql, long catalogVersion)
+            throws SQLException {
+        QueryResultCache queryResultCache = conn.getQueryResultCache();
+        QueryResultCache.CachedResult cached =
+                queryResultCache == null
+                        ? null
+                        : queryResultCache.get(dbName, sql, maxRows, catalogVersion);
+        if (cached == null) {
+            return null;
+        }
+        logger.log(Level.FINE, "Replaying the " + cached.rows.size() + " cached rows");
+        logger.setResultSetSchema(cached.schema);
+        // The cached rows are in memory, there is nothing to prefetch.
+        resultSet = newResultSet(cached.cursor(), cached.schema, cached.selectOrder, false);
+        return resultSet;
+    }
 
-        BsonDocument sqlStage = constructQueryDocument(sql);
-        MongoIterable<BsonDocument> iterable =
-                currentDB
-                        .aggregate(Collections.singletonList(sqlStage), BsonDocument.class)
-                        .maxTime(maxQuerySec, TimeUnit.SECONDS);
+    /** Caches the rows of a query as they are read, if results are cached. */
+    private MongoCursor<? extends BsonDocument> recordResult(
+            MongoCursor<? extends BsonDocument> cursor,
+            String dbName,
+            String sql,
+            long catalogVersion,
+            MongoJsonSchema schema,
+            List<List<String>> selectOrder) {
+        QueryResultCache queryResultCache = conn.getQueryResultCache();
+        return queryResultCache == null
+                ? cursor
+                : queryResultCache.record(
+                        cursor, dbName, sql, maxRows, catalogVersion, schema, selectOrder);
+    }
 
-        if (fetchSize != 0) {
-            iterable = iterable.batchSize(fetchSize);
+    private ResultSet executeAtlasDataFederationQuery(String sql) throws SQLException {
+        MongoDatabase db = currentDB;
+        // There is no schema catalog on Atlas Data Federation, cached results only expire.
+        ResultSet cachedResult = replayCachedResult(db.getName(), sql, 0);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        ResultSchemaCache resultSchemaCache = conn.getResultSchemaCache();
+        MongoJsonSchemaResult cachedSchemaResult =
+                resultSchemaCache == null ? null : resultSchemaCache.get(db.getName(), sql);
+        CompletableFuture<MongoJsonSchemaResult> schemaFuture = null;
+        if (cachedSchemaResult == null) {
+            // The schema is requested while the aggregate opens the cursor, which saves a round
+            // trip before the result set is ready.
+            long schemaMaxTimeMS = remainingTimeMS();
+            schemaFuture =
+                    CompletableFuture.supplyAsync(
+                            () -> runResultSchemaCommand(db, sql, schemaMaxTimeMS),
+                            RESULT_SCHEMA_EXECUTOR);
         }
 
-        MongoCursor<BsonDocument> cursor = iterable.cursor();
-        MongoJsonSchemaResult schemaResult =
-                currentDB
-                        .withCodecRegistry(MongoDriver.REGISTRY)
-                        .runCommand(getSchemaCmd, MongoJsonSchemaResult.class);
+        BsonDocument sqlStage = constructQueryDocument(sql);
+        MongoIterable<? extends BsonDocument> iterable =
+                db.aggregate(
+                                withMaxRowsLimit(Collections.singletonList(sqlStage)),
+                                getRowClass())
+                        .maxTime(remainingTimeMS(), TimeUnit.MILLISECONDS)
+                        .comment(operationComment);
+
+        MongoCursor<? extends BsonDocument> cursor = openCursor(iterable, sql);
+        MongoJsonSchemaResult schemaResult;
+        try {
+            schemaResult =
+                    cachedSchemaResult != null
+                            ? cachedSchemaResult
+                            : awaitResult(schemaFuture, remainingTimeMS());
+        } catch (SQLException | RuntimeException | Error e) {
+            cursor.close();
+            throw e;
+        }
         MongoJsonSchema resultsetSchema = schemaResult.schema.mongoJsonSchema;
         List<List<String>> selectOrder = schemaResult.selectOrder;
         logger.setResultSetSchema(resultsetSchema);
         logger.log(Level.FINE, "ResultSet schema: " + resultsetSchema);
         resultSet =
-                new MongoResultSet(
-                        this,
-                        cursor,
+                newResultSet(
+                        recordResult(cursor, db.getName(), sql, 0, resultsetSchema, selectOrder),
                         resultsetSchema,
-                        selectOrder,
-                        conn.getExtJsonMode(),
-                        conn.getUuidRepresentation());
+                        selectOrder);
 
         return resultSet;
     }
 
-    private ResultSet executeDirectClusterQuery(String sql)
+    /** Returns the result schema of an Atlas Data Federation query, from the cache if possible. */
+    private MongoJsonSchemaResult getResultSchema(MongoDatabase db, String sql)
+            throws SQLTimeoutException {
+        ResultSchemaCache resultSchemaCache = conn.getResultSchemaCache();
+        MongoJsonSchemaResult schemaResult =
+                resultSchemaCache == null ? null : resultSchemaCache.get(db.getName(), sql);
+        return schemaResult != null
+                ? schemaResult
+                : runResultSchemaCommand(db, sql, remainingTimeMS());
+    }
+
+    private MongoJsonSchemaResult runResultSchemaCommand(
+            MongoDatabase db, String sql, long maxTimeMS) {
+        MongoJsonSchemaResult schemaResult =
+                db.withCodecRegistry(MongoDriver.REGISTRY)
+                        .runCommand(
+                                constructSQLGetResultSchemaDocument(sql, maxTimeMS),
+                                MongoJsonSchemaResult.class);
+        ResultSchemaCache resultSchemaCache = conn.getResultSchemaCache();
+        if (resultSchemaCache != null) {
+            resultSchemaCache.put(db.getName(), sql, schemaResult);
+        }
+        return schemaResult;
+    }
+
+    /** Waits for the result of a background request, and rethrows its failure. */
+    private static <T> T awaitResult(CompletableFuture<T> future) throws SQLException {
+        return awaitResult(future, 0);
+    }
+
+    /**
+     * Waits for the result of a background request of a query, at most the time left before the
+     * query timeout, and rethrows its failure.
+     *
+     * @param timeoutMS The number of milliseconds left, or 0 if the query has no timeout.
+     */
+    private static <T> T awaitResult(CompletableFuture<T> future, long timeoutMS)
+            throws SQLException {
+        try {
+            return timeoutMS == 0 ? future.get() : future.get(timeoutMS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new SQLTimeoutException("The query timeout expired.", e);
+        } catch (InterruptedException e) {
+            // Only cancel() interrupts a query.
+            Thread.currentThread().interrupt();
+            throw new SQLException("The query was cancelled.", CANCELLED_SQL_STATE, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new SQLException(cause);
+        }
+    }
+
+    private ResultSet executeDirectClusterQuery(
+            String sql, AtomicReference<QueryTranslation> preparedTranslation)
+            throws MongoSQLException, MongoSerializationException, SQLException {
+        QueryTranslation translation = getTranslation(sql, preparedTranslation);
+        // A query naming its database runs in that database, which becomes the current database.
+        if (!translation.queryDbName.equals(currentDB.getName())) {
+            currentDB = conn.getDatabase(translation.queryDbName);
+        }
+        ResultSet cachedResult =
+                replayCachedResult(translation.queryDbName, sql, translation.catalogVersion);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        TranslateResult translateResponse = translation.translateResult;
+        logger.setPipeline(translateResponse.pipeline);
+        logger.setResultSetSchema(translateResponse.resultSetSchema);
+        logger.log(Level.FINE, "Translate response: " + translateResponse);
+
+        MongoCursor<? extends BsonDocument> cursor;
+        if (translateResponse.targetCollection != null
+                && !translateResponse.targetCollection.isEmpty()) {
+            MongoCollection<?> collection =
+                    currentDB.getCollection(translateResponse.targetCollection);
+            List<BsonDocument> partitionFilters =
+                    getPartitionFilters(collection, translateResponse.pipeline);
+            if (partitionFilters.isEmpty()) {
+                cursor =
+                        openCursor(
+                                collection
+                                        .aggregate(
+                                                withMaxRowsLimit(translateResponse.pipeline),
+                                                getRowClass())
+                                        .maxTime(remainingTimeMS(), TimeUnit.MILLISECONDS)
+                                        .comment(operationComment),
+                                sql);
+            } else {
+                cursor =
+                        openPartitionedScan(
+                                collection, translateResponse.pipeline, partitionFilters, sql);
+            }
+        } else {
+            // If there are no target collection execute the pipeline against the DB directly
+            cursor =
+                    openCursor(
+                            currentDB
+                                    .aggregate(
+                                            withMaxRowsLimit(translateResponse.pipeline),
+                                            getRowClass())
+                                    .maxTime(remainingTimeMS(), TimeUnit.MILLISECONDS)
+                                    .comment(operationComment),
+                            sql);
+        }
+
+        resultSet =
+                newResultSet(
+                        recordResult(
+                                cursor,
+                                translation.queryDbName,
+                                sql,
+                                translation.catalogVersion,
+                                translateResponse.resultSetSchema,
+                                translateResponse.selectOrder),
+                        translateResponse.resultSetSchema,
+                        translateResponse.selectOrder);
+
+        return resultSet;
+    }
+
+    /**
+     * Returns the _id ranges a query scanning a collection is split into, when scans are split and
+     * the pipeline only filters and projects the documents of the collection. The ranges come
+     * from a random sample of the _id values of the collection. Queries with a maximum number of
+     * rows are not split, since each partition would read up to that number of rows.
+     *
+     * @return the $match stages of the partitions, or an empty list to run the pipeline as a
+     *     single aggregate.
+     */
+    private List<BsonDocument> getPartitionFilters(
+            MongoCollection<?> collection, List<BsonDocument> pipeline)
+            throws SQLTimeoutException {
+        int partitions = conn.getScanPartitions();
+        if (partitions < 2 || maxRows != 0 || !PartitionedScan.isScan(pipeline)) {
+            return Collections.emptyList();
+        }
+        List<BsonValue> sampledIds = new ArrayList<>();
+        collection
+                .aggregate(PartitionedScan.samplePipeline(partitions), BsonDocument.class)
+                .maxTime(remainingTimeMS(), TimeUnit.MILLISECONDS)
+                .comment(operationComment)
+                .forEach(document -> sampledIds.add(document.get("_id")));
+        List<BsonDocument> partitionFilters =
+                PartitionedScan.partitionFilters(sampledIds, partitions);
+        logger.log(
+                Level.FINE,
+                partitionFilters.isEmpty()
+                        ? "The scan is not split, " + sampledIds.size() + " _id values sampled"
+                        : "Scan partitions: " + partitionFilters);
+        return partitionFilters;
+    }
+
+    /**
+     * Runs a pipeline on each partition of its collection, and merges the rows of the partitions
+     * as they arrive. The aggregates are opened concurrently.
+     */
+    private MongoCursor<? extends BsonDocument> openPartitionedScan(
+            MongoCollection<?> collection,
+            List<BsonDocument> pipeline,
+            List<BsonDocument> partitionFilters,
+            String sql)
+            throws SQLException {
+        List<CompletableFuture<MongoCursor<? extends BsonDocument>>> futures = new ArrayList<>();
+        for (BsonDocument partitionFilter : partitionFilters) {
+            // The filter comes first, so that the range is read from the _id index.
+            List<BsonDocument> partitionPipeline = new ArrayList<>(pipeline.size() + 1);
+            partitionPipeline.add(partitionFilter);
+            partitionPipeline.addAll(pipeline);
+            MongoIterable<? extends BsonDocument> iterable =
+                    collection
+                            .aggregate(partitionPipeline, getRowClass())
+                            .maxTime(remainingTimeMS(), TimeUnit.MILLISECONDS)
+                            .comment(operationComment);
+            futures.add(
+                    CompletableFuture.supplyAsync(
+                            () -> openCursor(iterable, sql), PARTITION_EXECUTOR));
+        }
+        List<MongoCursor<? extends BsonDocument>> cursors = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<MongoCursor<? extends BsonDocument>> future : futures) {
+                cursors.add(awaitResult(future, remainingTimeMS()));
+            }
+        } catch (SQLException | RuntimeException | Error e) {
+            for (CompletableFuture<MongoCursor<? extends BsonDocument>> future : futures) {
+                future.thenAccept(MongoCursor::close);
+            }
+            throw e;
+        }
+        return new MergingCursor<BsonDocument>(cursors);
+    }
+
+    /**
+     * Returns the translation of a direct cluster query, reusing the translation of an earlier
+     * execution when it is still current.
+     */
+    private QueryTranslation getTranslation(
+            String sql, AtomicReference<QueryTranslation> preparedTranslation)
             throws MongoSQLException, MongoSerializationException, SQLException {
+        QueryTranslation translation =
+                preparedTranslation == null ? null : preparedTranslation.get();
+        if (translation != null && isCurrent(translation)) {
+            logger.log(Level.FINE, "Reusing the prepared translation");
+        } else {
+            translation = translateDirectClusterQuery(sql, null);
+            if (preparedTranslation != null) {
+                preparedTranslation.set(translation);
+            }
+        }
+        return translation;
+    }
+
+    /**
+     * Tells whether a translation made for an earlier execution can be used again. It can as long
+     * as the schemas of its collections did not change, which is only known with the schema
+     * catalog cache.
+     */
+    private boolean isCurrent(QueryTranslation translation) throws SQLException {
+        if (!translation.qualified && !translation.currentDbName.equals(currentDB.getName())) {
+            return false;
+        }
+        if (translation.collections.isEmpty()) {
+            return true;
+        }
+        SchemaCatalogCache schemaCatalogCache = conn.getSchemaCatalogCache();
+        return schemaCatalogCache != null
+                && schemaCatalogCache.getVersion(
+                                conn.getDatabase(translation.queryDbName),
+                                translation.collections,
+                                remainingTimeMS())
+                        == translation.catalogVersion;
+    }
+
+    /**
+     * Translates a direct cluster query.
+     *
+     * @param sql The SQL query.
+     * @param explain Receives the namespaces, the catalog and the time of each step, or null.
+     * @return the translation.
+     */
+    private QueryTranslation translateDirectClusterQuery(String sql, MongoExplainResult explain)
+            throws MongoSQLException, MongoSerializationException, SQLException {
+        long stepStart = System.nanoTime();
         MongoSQLTranslate mongoSQLTranslate = conn.getMongosqlTranslate();
+        TranslationCache translationCache = conn.getTranslationCache();
+        SchemaCatalogCache schemaCatalogCache = conn.getSchemaCatalogCache();
         String dbName = currentDB.getName();
+        // Queries which only differ by their string literals share the translation of their shape.
+        ParameterizedQuery parameterizedQuery =
+                translationCache.isEnabled() ? ParameterizedQuery.parse(sql) : null;
+        if (parameterizedQuery != null
+                && translationCache.isRejectedShape(dbName, parameterizedQuery.getShape())) {
+            parameterizedQuery = null;
+        }
+        // Literals do not change the namespaces of a query.
+        String namespacesSql = parameterizedQuery == null ? sql : parameterizedQuery.getShape();
 
         // Retrieve the namespaces for the query
         GetNamespacesResult namespaceResult =
-                mongoSQLTranslate.getNamespaces(currentDB.getName(), sql);
+                translationCache.getNamespaces(
+                        dbName,
+                        namespacesSql,
+                        () -> mongoSQLTranslate.getNamespaces(dbName, namespacesSql));
 
         logger.log(Level.FINE, "Namespaces: " + namespaceResult);
+        if (explain != null) {
+            explain.addPhaseTime(
+                    MongoExplainResult.NAMESPACES_PHASE, System.nanoTime() - stepStart);
+            stepStart = System.nanoTime();
+        }
         List<GetNamespacesResult.Namespace> namespaces = namespaceResult.namespaces;
         // Check to see if namespaces returned a database. It would only do this
-        // if the query contains a qualified namespace. In this event, we must
-        // switch currentDB to the query's database for proper operation.
-        if (!namespaces.isEmpty() && !namespaces.get(0).database.isEmpty()) {
-            dbName = namespaces.get(0).database;
-            currentDB = conn.getDatabase(dbName);
-        }
+        // if the query contains a qualified namespace. In this event, the query
+        // must run in the query's database for proper operation.
+        boolean qualified = !namespaces.isEmpty() && !namespaces.get(0).database.isEmpty();
+        String queryDbName = qualified ? namespaces.get(0).database : dbName;
+        MongoDatabase queryDB = qualified ? conn.getDatabase(queryDbName) : currentDB;
+
+        // Read the version first, a schema changing while the catalog is built then leads to a
+        // new translation on the next execution.
+        long catalogVersion =
+                schemaCatalogCache == null ? 0 : schemaCatalogCache.getVersion(queryDbName);
 
         // Translate the SQL query
         BsonDocument catalogDoc =
-                mongoSQLTranslate.buildCatalogDocument(currentDB, dbName, namespaces);
+                mongoSQLTranslate.buildCatalogDocument(
+                        queryDB, queryDbName, namespaces, schemaCatalogCache, remainingTimeMS());
         logger.log(Level.FINE, "Query catalog: " + catalogDoc);
         logger.setNamespacesSchema(catalogDoc);
-        TranslateResult translateResponse = mongoSQLTranslate.translate(sql, dbName, catalogDoc);
-        logger.setPipeline(translateResponse.pipeline);
-        logger.setResultSetSchema(translateResponse.resultSetSchema);
-        logger.log(Level.FINE, "Translate response: " + translateResponse);
+        if (explain != null) {
+            explain.addPhaseTime(MongoExplainResult.CATALOG_PHASE, System.nanoTime() - stepStart);
+            explain.setTranslation(namespaces, catalogDoc);
+            stepStart = System.nanoTime();
+        }
+        // The translation runs in the native library and cannot be stopped, it only starts if
+        // the query has time left.
+        remainingTimeMS();
+        TranslateResult translateResponse = null;
+        if (parameterizedQuery != null) {
+            translateResponse =
+                    translateShape(
+                            mongoSQLTranslate,
+                            translationCache,
+                            parameterizedQuery,
+                            dbName,
+                            queryDbName,
+                            catalogDoc);
+        }
+        if (translateResponse == null) {
+            translateResponse =
+                    translationCache.getTranslation(
+                            queryDbName,
+                            sql,
+                            catalogDoc,
+                            () -> mongoSQLTranslate.translate(sql, queryDbName, catalogDoc));
+        }
 
-        MongoIterable<BsonDocument> iterable = null;
-        if (translateResponse.targetCollection != null
-                && !translateResponse.targetCollection.isEmpty()) {
-            iterable =
-                    currentDB
-                            .getCollection(translateResponse.targetCollection)
-                            .aggregate(translateResponse.pipeline, BsonDocument.class)
-                            .maxTime(maxQuerySec, TimeUnit.SECONDS);
-        } else {
-            // If there are no target collection execute the pipeline against the DB directly
-            iterable =
-                    currentDB
-                            .aggregate(translateResponse.pipeline, BsonDocument.class)
-                            .maxTime(maxQuerySec, TimeUnit.SECONDS);
+        if (explain != null) {
+            explain.addPhaseTime(MongoExplainResult.TRANSLATE_PHASE, System.nanoTime() - stepStart);
         }
 
-        if (fetchSize != 0) {
-            iterable = iterable.batchSize(fetchSize);
+        List<String> collections = new ArrayList<>(namespaces.size());
+        for (GetNamespacesResult.Namespace namespace : namespaces) {
+            collections.add(namespace.collection);
         }
+        return new QueryTranslation(
+                dbName, queryDbName, qualified, collections, catalogVersion, translateResponse);
+    }
 
-        resultSet =
-                new MongoResultSet(
-                        this,
-                        iterable.cursor(),
-                        translateResponse.resultSetSchema,
-                        translateResponse.selectOrder,
-                        conn.getExtJsonMode(),
-                        conn.getUuidRepresentation());
+    /**
+     * Translates a query through the translation of its shape.
+     *
+     * @return the translation of the query, or null if the translation of the shape cannot be used
+     *     for the query.
+     */
+    private TranslateResult translateShape(
+            MongoSQLTranslate mongoSQLTranslate,
+            TranslationCache translationCache,
+            ParameterizedQuery parameterizedQuery,
+            String dbName,
+            String translateDbName,
+            BsonDocument catalogDoc)
+            throws MongoSerializationException {
+        String shape = parameterizedQuery.getShape();
+        TranslateResult translateResponse = null;
+        try {
+            translateResponse =
+                    parameterizedQuery.bind(
+                            translationCache.getTranslation(
+                                    translateDbName,
+                                    shape,
+                                    catalogDoc,
+                                    () ->
+                                            mongoSQLTranslate.translate(
+                                                    shape, translateDbName, catalogDoc)));
+        } catch (MongoSQLException e) {
+            // The literals of the query are checked by the translation, for example a date
+            // format, translate the query as is.
+            logger.log(Level.FINE, "Query shape translation failed: " + e.getMessage());
+        }
+        if (translateResponse == null) {
+            logger.log(Level.FINE, "Query shape is not reusable: " + shape);
+            translationCache.rejectShape(dbName, shape);
+        }
+        return translateResponse;
+    }
 
-        return resultSet;
+    /**
+     * Describes the result set of a query without running it. The result set schema comes from
+     * the translation on direct clusters, and from the sqlGetResultSchema command on Atlas Data
+     * Federation.
+     *
+     * @param sql The SQL query.
+     * @param preparedTranslation Holds the translation of the query for direct cluster queries,
+     *     or null to translate the query.
+     * @return the metadata of the result set of the query.
+     */
+    ResultSetMetaData describeQuery(
+            String sql, AtomicReference<QueryTranslation> preparedTranslation)
+            throws SQLException {
+        checkClosed();
+        logger.setSqlQuery(sql);
+        startDeadline();
+        MongoJsonSchema schema;
+        List<List<String>> selectOrder;
+        startOperation();
+        try {
+            if (conn.getClusterType() == MongoConnection.MongoClusterType.AtlasDataFederation) {
+                MongoJsonSchemaResult schemaResult = getResultSchema(currentDB, sql);
+                schema = schemaResult.schema.mongoJsonSchema;
+                selectOrder = schemaResult.selectOrder;
+            } else if (conn.getClusterType() == MongoConnection.MongoClusterType.Enterprise) {
+                TranslateResult translateResponse =
+                        getTranslation(sql, preparedTranslation).translateResult;
+                schema = translateResponse.resultSetSchema;
+                selectOrder = translateResponse.selectOrder;
+            } else {
+                throw new SQLException("Unsupported cluster type: " + conn.clusterType);
+            }
+        } catch (MongoExecutionTimeoutException e) {
+            throw new SQLTimeoutException(e);
+        } catch (MongoSQLException | MongoSerializationException e) {
+            throw new RuntimeException(e);
+        } catch (RuntimeException e) {
+            if (cancelled) {
+                throw new SQLException("The query was cancelled.", CANCELLED_SQL_STATE, e);
+            }
+            throw e;
+        } finally {
+            endOperation();
+        }
+        logger.setResultSetSchema(schema);
+        return new MongoResultSetMetaData(
+                schema,
+                selectOrder,
+                true,
+                getParentLogger(),
+                getStatementId(),
+                logger.getQueryDiagnostics());
+    }
+
+    /**
+     * Explains a query without running it. The query is translated the way executeQuery translates
+     * it, using the driver caches, and the server explains the resulting pipeline. The statement
+     * settings which change the pipeline, the maximum number of rows and the query timeout, apply.
+     *
+     * @param sql The SQL query.
+     * @param verbosity The verbosity of the server explain output. With {@link
+     *     ExplainVerbosity#EXECUTION_STATS} and {@link ExplainVerbosity#ALL_PLANS_EXECUTIONS}, the
+     *     server runs the pipeline to report its execution statistics.
+     * @return the translation, the pipeline, the server explain output and the time of each step.
+     * @throws SQLException if the statement is closed, or the query cannot be explained.
+     */
+    public MongoExplainResult explain(String sql, ExplainVerbosity verbosity) throws SQLException {
+        checkClosed();
+        Preconditions.checkNotNull(verbosity);
+        logger.setSqlQuery(sql);
+        startDeadline();
+        MongoExplainResult explain = new MongoExplainResult(sql);
+        startOperation();
+        try {
+            MongoDatabase db;
+            String targetCollection;
+            List<BsonDocument> pipeline;
+            if (conn.getClusterType() == MongoConnection.MongoClusterType.AtlasDataFederation) {
+                db = currentDB;
+                targetCollection = null;
+                pipeline = Collections.singletonList(constructQueryDocument(sql));
+            } else if (conn.getClusterType() == MongoConnection.MongoClusterType.Enterprise) {
+                QueryTranslation translation = translateDirectClusterQuery(sql, explain);
+                TranslateResult translateResponse = translation.translateResult;
+                db = conn.getDatabase(translation.queryDbName);
+                targetCollection =
+                        translateResponse.targetCollection == null
+                                        || translateResponse.targetCollection.isEmpty()
+                                ? null
+                                : translateResponse.targetCollection;
+                pipeline = translateResponse.pipeline;
+            } else {
+                throw new SQLException("Unsupported cluster type: " + conn.clusterType);
+            }
+            pipeline = withMaxRowsLimit(pipeline);
+            explain.setQuery(db.getName(), targetCollection, pipeline);
+
+            long explainStart = System.nanoTime();
+            AggregateIterable<BsonDocument> iterable =
+                    targetCollection == null
+                            ? db.aggregate(pipeline, BsonDocument.class)
+                            : db.getCollection(targetCollection)
+                                    .aggregate(pipeline, BsonDocument.class);
+            explain.setServerExplain(
+                    iterable.maxTime(remainingTimeMS(), TimeUnit.MILLISECONDS)
+                            .comment(operationComment)
+                            .explain(BsonDocument.class, verbosity));
+            explain.addPhaseTime(
+                    MongoExplainResult.EXPLAIN_PHASE, System.nanoTime() - explainStart);
+        } catch (MongoExecutionTimeoutException e) {
+            throw new SQLTimeoutException(e);
+        } catch (MongoSQLException | MongoSerializationException e) {
+            throw new RuntimeException(e);
+        } catch (RuntimeException e) {
+            if (cancelled) {
+                throw new SQLException("The query was cancelled.", CANCELLED_SQL_STATE, e);
+            }
+            throw e;
+        } finally {
+            endOperation();
+        }
+        logger.log(Level.FINE, "Explain: " + explain);
+        return explain;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public ResultSet executeQuery(String sql) throws SQLException {
+        return executeQuery(sql, null);
+    }
+
+    /**
+     * Executes a query, reusing the translation of an earlier execution of the same query when
+     * it is still current.
+     *
+     * @param sql The SQL query.
+     * @param preparedTranslation Holds the translation of the query for direct cluster queries,
+     *     or null to translate the query.
+     * @return the result set.
+     */
+    ResultSet executeQuery(String sql, AtomicReference<QueryTranslation> preparedTranslation)
+            throws SQLException {
         checkClosed();
         closeExistingResultSet();
         logger.setSqlQuery(sql);
         long startTime = System.nanoTime();
         logger.log(Level.INFO, StringEscapeUtils.escapeJava(sql));
         ResultSet result = null;
+        startOperation();
+        startDeadline();
         try {
             if (conn.getClusterType() == MongoConnection.MongoClusterType.AtlasDataFederation) {
                 result = executeAtlasDataFederationQuery(sql);
             } else if (conn.getClusterType() == MongoConnection.MongoClusterType.Enterprise) {
-                result = executeDirectClusterQuery(sql);
+                result = executeDirectClusterQuery(sql, preparedTranslation);
             } else {
                 throw new SQLException("Unsupported cluster type: " + conn.clusterType);
             }
@@ -314,6 +1026,13 @@ public class MongoStatement implements Statement {
             throw new SQLTimeoutException(e);
         } catch (MongoSQLException | MongoSerializationException e) {
             throw new RuntimeException(e);
+        } catch (RuntimeException e) {
+            if (cancelled) {
+                throw new SQLException("The query was cancelled.", CANCELLED_SQL_STATE, e);
+            }
+            throw e;
+        } finally {
+            endOperation();
         }
         long endTime = System.nanoTime();
         logger.log(
@@ -337,9 +1056,7 @@ public class MongoStatement implements Statement {
 
     @Override
     public boolean getMoreResults() throws SQLException {
-        checkClosed();
-        // We only support one SQL query every time and no stored procedure support
-        return false;
+        return getMoreResults(CLOSE_CURRENT_RESULT);
     }
 
     // --------------------------JDBC 2.0-----------------------------
@@ -380,31 +1097,270 @@ public class MongoStatement implements Statement {
     @Override
     public int getResultSetType() throws SQLException {
         checkClosed();
-        return ResultSet.TYPE_FORWARD_ONLY;
+        return resultSetType;
     }
 
     @Override
     public void addBatch(String sql) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        checkClosed();
+        Preconditions.checkNotNull(sql);
+        batch.add(sql);
     }
 
     @Override
     public void clearBatch() throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        checkClosed();
+        batch.clear();
     }
 
+    /**
+     * Runs the queries of the batch concurrently, each one with its own connection from the pool
+     * of the client, so that the batch takes about as long as its slowest query. Below JDK 21, at
+     * most {@value #MAX_PLATFORM_THREADS} queries of all the batches run at once. The result sets
+     * are read in the order of the queries: the first one is the current result set, and {@link
+     * #getMoreResults()} moves to the next one. Each result set belongs to a statement of its own,
+     * which is closed with the result set.
+     *
+     * @return {@link Statement#SUCCESS_NO_INFO} for each query, since queries do not update rows.
+     * @throws BatchUpdateException if a query fails. Its update counts are {@link
+     *     Statement#EXECUTE_FAILED} for the failed queries, and the result sets of the other
+     *     queries are closed.
+     */
     @Override
     public int[] executeBatch() throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        checkClosed();
+        closeExistingResultSet();
+        List<String> queries = new ArrayList<>(batch);
+        batch.clear();
+        logger.log(Level.FINE, "Executing a batch of " + queries.size() + " queries");
+
+        List<MongoStatement> statements = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            statements.add(newBatchStatement());
+        }
+        batchStatements = statements;
+        List<CompletableFuture<MongoResultSet>> futures = new ArrayList<>(queries.size());
+        try {
+            for (int i = 0; i < queries.size(); i++) {
+                MongoStatement statement = statements.get(i);
+                String sql = queries.get(i);
+                futures.add(
+                        CompletableFuture.supplyAsync(
+                                () -> {
+                                    try {
+                                        return (MongoResultSet) statement.executeQuery(sql);
+                                    } catch (SQLException e) {
+                                        throw new CompletionException(e);
+                                    }
+                                },
+                                BATCH_EXECUTOR));
+            }
+
+            int[] updateCounts = new int[queries.size()];
+            List<MongoResultSet> results = new ArrayList<>(queries.size());
+            Throwable failure = null;
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(awaitResult(futures.get(i)));
+                    updateCounts[i] = SUCCESS_NO_INFO;
+                } catch (SQLException | RuntimeException e) {
+                    updateCounts[i] = EXECUTE_FAILED;
+                    if (failure == null) {
+                        failure = e.getCause() instanceof SQLException ? e.getCause() : e;
+                    }
+                }
+            }
+            if (failure != null) {
+                // Close the result sets of the other queries, now or when they complete.
+                for (CompletableFuture<MongoResultSet> future : futures) {
+                    future.thenAccept(MongoStatement::closeQuietly);
+                }
+                SQLException cause =
+                        failure instanceof SQLException ? (SQLException) failure : null;
+                throw new BatchUpdateException(
+                        "A query of the batch failed: " + failure.getMessage(),
+                        cause == null ? null : cause.getSQLState(),
+                        cause == null ? 0 : cause.getErrorCode(),
+                        updateCounts,
+                        failure);
+            }
+            pendingResultSets.addAll(results);
+            resultSet = pendingResultSets.poll();
+            return updateCounts;
+        } finally {
+            batchStatements = Collections.emptyList();
+        }
+    }
+
+    /** Returns a statement running a query of a batch with the settings of this statement. */
+    private MongoStatement newBatchStatement() throws SQLException {
+        MongoStatement statement = new MongoStatement(conn, currentDB.getName(), resultSetType);
+        statement.fetchSize = fetchSize;
+        statement.maxRows = maxRows;
+        statement.maxQuerySec = maxQuerySec;
+        statement.cursorName = cursorName;
+        // The statement is only reachable through its result set.
+        statement.closeOnCompletion = true;
+        return statement;
     }
 
     @Override
     public void cancel() throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        checkClosed();
+        for (MongoStatement statement : batchStatements) {
+            statement.cancel();
+        }
+        synchronized (cancelLock) {
+            if (asyncQueryPending && executingThread == null) {
+                // The asynchronous query did not start, the comment is the one of an older query.
+                cancelOnStart = true;
+                return;
+            }
+        }
+        String comment = operationComment;
+        if (comment == null) {
+            // No query was run.
+            return;
+        }
+        logger.log(Level.FINE, "Cancelling the operations with comment " + comment);
+        killOperations(comment);
+        synchronized (cancelLock) {
+            if (executingThread != null) {
+                cancelled = true;
+                executingThread.interrupt();
+            }
+        }
+        // Closing the cursor kills it on the server.
+        MongoResultSet rs = resultSet;
+        if (rs != null) {
+            rs.close();
+        }
+    }
+
+    /**
+     * Executes a query without blocking the calling thread. The query runs on a virtual thread if
+     * the JDK has them, or on a shared pool of at most {@value #MAX_PLATFORM_THREADS} daemon
+     * threads. Cancelling the returned future cancels the query, see {@link #cancel()}. The
+     * statement must not be used until the future completes.
+     *
+     * @param sql The SQL query.
+     * @return the future result set of the query.
+     */
+    public CompletableFuture<ResultSet> executeQueryAsync(String sql) {
+        return executeQueryAsync(sql, ASYNC_EXECUTOR);
+    }
+
+    /**
+     * Executes a query on an executor of the application, see {@link #executeQueryAsync(String)}.
+     *
+     * @param sql The SQL query.
+     * @param executor The executor running the query.
+     * @return the future result set of the query.
+     */
+    public CompletableFuture<ResultSet> executeQueryAsync(String sql, Executor executor) {
+        Preconditions.checkNotNull(executor);
+        CompletableFuture<ResultSet> future = new CompletableFuture<>();
+        synchronized (cancelLock) {
+            asyncQueryPending = true;
+            cancelOnStart = false;
+        }
+        Runnable task =
+                () -> {
+                    try {
+                        if (future.isCancelled()) {
+                            return;
+                        }
+                        // startOperation() fails if cancel() was called before the query started.
+                        ResultSet rs = executeQuery(sql);
+                        if (!future.complete(rs)) {
+                            // The future was cancelled.
+                            rs.close();
+                        }
+                    } catch (Throwable t) {
+                        future.completeExceptionally(t);
+                    } finally {
+                        synchronized (cancelLock) {
+                            asyncQueryPending = false;
+                            cancelOnStart = false;
+                        }
+                    }
+                };
+        future.whenComplete(
+                (rs, t) -> {
+                    if (future.isCancelled()) {
+                        try {
+                            cancel();
+                        } catch (SQLException e) {
+                            logger.log(Level.FINE, "Failed to cancel the query: " + e.getMessage());
+                        }
+                    }
+                });
+        try {
+            executor.execute(task);
+        } catch (RuntimeException e) {
+            synchronized (cancelLock) {
+                asyncQueryPending = false;
+            }
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /** Tags the operations of a new query with a unique comment, for cancel(). */
+    private void startOperation() throws SQLException {
+        synchronized (cancelLock) {
+            if (cancelOnStart) {
+                cancelOnStart = false;
+                throw new SQLException("The query was cancelled.", CANCELLED_SQL_STATE);
+            }
+            operationComment = OPERATION_COMMENT_PREFIX + UUID.randomUUID();
+            executingThread = Thread.currentThread();
+            cancelled = false;
+        }
+    }
+
+    private void endOperation() {
+        synchronized (cancelLock) {
+            executingThread = null;
+            if (cancelled) {
+                // Clear the interruption of the cancelled query.
+                Thread.interrupted();
+            }
+        }
+    }
+
+    /**
+     * Kills the server operations tagged with a comment, the initial aggregate as well as the
+     * getMore commands of its cursor.
+     */
+    private void killOperations(String comment) {
+        BsonString bsonComment = new BsonString(comment);
+        BsonArray matchComment = new BsonArray();
+        matchComment.add(new BsonDocument("command.comment", bsonComment));
+        matchComment.add(new BsonDocument("cursor.originatingCommand.comment", bsonComment));
+        try {
+            MongoDatabase adminDB = conn.getDatabase(ADMIN_DATABASE);
+            List<BsonDocument> operations =
+                    adminDB.aggregate(
+                                    Arrays.asList(
+                                            new BsonDocument("$currentOp", new BsonDocument()),
+                                            new BsonDocument(
+                                                    "$match",
+                                                    new BsonDocument("$or", matchComment))),
+                                    BsonDocument.class)
+                            .into(new ArrayList<>());
+            for (BsonDocument operation : operations) {
+                if (operation.containsKey("opid")) {
+                    adminDB.runCommand(
+                            new BsonDocument("killOp", BSON_ONE_INT_VALUE)
+                                    .append("op", operation.get("opid")));
+                }
+            }
+        } catch (RuntimeException e) {
+            // The user may not be allowed to list or kill operations, the interruption and the
+            // cursor close still stop the query on this side.
+            logger.log(Level.FINE, "Failed to kill the operations: " + e.getMessage());
+        }
     }
 
     @Override
@@ -428,11 +1384,10 @@ public class MongoStatement implements Statement {
                     Thread.currentThread().getStackTrace()[1].toString());
         }
 
-        if (current == CLOSE_CURRENT_RESULT) {
-            closeExistingResultSet();
-        }
-
-        return false;
+        // Only a batch of queries has more than one result set, see executeBatch().
+        closeCurrentResultSet();
+        resultSet = pendingResultSets.poll();
+        return resultSet != null;
     }
 
     @Override
@@ -527,20 +1482,27 @@ public class MongoStatement implements Statement {
 
     @Override
     public void setLargeMaxRows(long max) throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        checkClosed();
+        if (max < 0) {
+            throw new SQLException("Invalid max rows: " + max + ". Max rows must be >= 0.");
+        }
+        maxRows = max;
     }
 
     @Override
     public long getLargeMaxRows() throws SQLException {
         checkClosed();
-        return 0;
+        return maxRows;
     }
 
     @Override
     public long[] executeLargeBatch() throws SQLException {
-        throw new SQLFeatureNotSupportedException(
-                Thread.currentThread().getStackTrace()[1].toString());
+        int[] updateCounts = executeBatch();
+        long[] largeUpdateCounts = new long[updateCounts.length];
+        for (int i = 0; i < updateCounts.length; i++) {
+            largeUpdateCounts[i] = updateCounts[i];
+        }
+        return largeUpdateCounts;
     }
 
     @Override
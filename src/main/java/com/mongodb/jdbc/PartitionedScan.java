@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+/**
+ * PartitionedScan splits the scan of a collection into _id ranges, so that a query reading a whole
+ * collection can run as several aggregates in parallel. The boundaries of the ranges are taken
+ * from a random sample of the _id values of the collection, sorted by the server.
+ *
+ * <p>Query operators only compare values of the same type bracket, so a range only matches the _id
+ * values of the type of its boundaries. Collections are only split when all the sampled _id values
+ * are ObjectIds, strings, numbers or dates, and the documents with an _id of another type are read
+ * by one more partition.
+ */
+final class PartitionedScan {
+    // The number of _id values sampled per partition.
+    static final int SAMPLES_PER_PARTITION = 20;
+    private static final String ID = "_id";
+    // The stages which only filter or reshape a document, independently of the other documents.
+    private static final Set<String> DOCUMENT_STAGES =
+            new HashSet<>(
+                    Arrays.asList(
+                            "$match",
+                            "$project",
+                            "$addFields",
+                            "$set",
+                            "$unset",
+                            "$replaceRoot",
+                            "$replaceWith"));
+
+    private PartitionedScan() {}
+
+    /**
+     * Tells whether a pipeline can run on each partition of its collection. It can if all its
+     * stages handle the documents one at a time, in which case its result is the union of the
+     * results of the partitions, in no particular order. The range $match of a partition goes
+     * first, so the pipelines whose first stage must stay first, a text search $match, are not
+     * split. $geoNear and $search are not document stages.
+     *
+     * @param pipeline The query pipeline.
+     * @return true if the pipeline only filters and projects the documents of its collection.
+     */
+    static boolean isScan(List<BsonDocument> pipeline) {
+        for (BsonDocument stage : pipeline) {
+            if (stage.size() != 1 || !DOCUMENT_STAGES.contains(stage.getFirstKey())) {
+                return false;
+            }
+            if (stage.containsKey("$match") && hasTextSearch(stage.get("$match"))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** @return true if a query filter has a $text operator, at any depth. */
+    private static boolean hasTextSearch(BsonValue filter) {
+        if (filter.isDocument()) {
+            for (Map.Entry<String, BsonValue> entry : filter.asDocument().entrySet()) {
+                if (entry.getKey().equals("$text") || hasTextSearch(entry.getValue())) {
+                    return true;
+                }
+            }
+        } else if (filter.isArray()) {
+            for (BsonValue value : filter.asArray()) {
+                if (hasTextSearch(value)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param partitions The number of partitions.
+     * @return the pipeline reading the sorted sample of the _id values of a collection.
+     */
+    static List<BsonDocument> samplePipeline(int partitions) {
+        return Arrays.asList(
+                new BsonDocument(
+                        "$sample",
+                        new BsonDocument(
+                                "size", new BsonInt32(partitions * SAMPLES_PER_PARTITION))),
+                new BsonDocument("$project", new BsonDocument(ID, new BsonInt32(1))),
+                new BsonDocument("$sort", new BsonDocument(ID, new BsonInt32(1))));
+    }
+
+    /**
+     * Returns the $match stages selecting each partition of a collection. The ranges cover all the
+     * _id values and do not overlap.
+     *
+     * @param sampledIds The sampled _id values, in ascending order.
+     * @param partitions The number of _id ranges.
+     * @return the $match stages of the partitions, or an empty list if the sample is too small or
+     *     its values cannot be ranged.
+     */
+    static List<BsonDocument> partitionFilters(List<BsonValue> sampledIds, int partitions) {
+        if (partitions < 2 || sampledIds.size() < partitions) {
+            return Collections.emptyList();
+        }
+        BsonArray bracket = typeBracket(sampledIds.get(0));
+        for (BsonValue id : sampledIds) {
+            if (bracket == null || !bracket.equals(typeBracket(id))) {
+                return Collections.emptyList();
+            }
+        }
+        List<BsonValue> boundaries = new ArrayList<>(partitions - 1);
+        for (int i = 1; i < partitions; i++) {
+            BsonValue boundary = sampledIds.get(i * sampledIds.size() / partitions);
+            // The sample may repeat a value, an empty range would only cost an aggregate.
+            if (boundaries.isEmpty() || !boundaries.get(boundaries.size() - 1).equals(boundary)) {
+                boundaries.add(boundary);
+            }
+        }
+
+        List<BsonDocument> filters = new ArrayList<>(boundaries.size() + 2);
+        filters.add(idMatch(new BsonDocument("$lt", boundaries.get(0))));
+        for (int i = 1; i < boundaries.size(); i++) {
+            filters.add(
+                    idMatch(
+                            new BsonDocument("$gte", boundaries.get(i - 1))
+                                    .append("$lt", boundaries.get(i))));
+        }
+        filters.add(idMatch(new BsonDocument("$gte", boundaries.get(boundaries.size() - 1))));
+        filters.add(idMatch(new BsonDocument("$not", new BsonDocument("$type", bracket))));
+        return filters;
+    }
+
+    private static BsonDocument idMatch(BsonDocument condition) {
+        return new BsonDocument("$match", new BsonDocument(ID, condition));
+    }
+
+    /**
+     * @return the $type aliases of the types comparing with a value in queries, or null if the _id
+     *     values of its type are not ranged.
+     */
+    private static BsonArray typeBracket(BsonValue value) {
+        if (value == null) {
+            return null;
+        }
+        switch (value.getBsonType()) {
+            case OBJECT_ID:
+                return aliases("objectId");
+            case STRING:
+            case SYMBOL:
+                return aliases("string", "symbol");
+            case INT32:
+            case INT64:
+            case DOUBLE:
+            case DECIMAL128:
+                return aliases("number");
+            case DATE_TIME:
+                return aliases("date");
+            default:
+                return null;
+        }
+    }
+
+    private static BsonArray aliases(String... aliases) {
+        BsonArray array = new BsonArray();
+        for (String alias : aliases) {
+            array.add(new BsonString(alias));
+        }
+        return array;
+    }
+}
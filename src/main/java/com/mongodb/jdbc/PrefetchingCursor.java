@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import com.mongodb.client.MongoCursor;
+import java.util.Collections;
+
+/**
+ * PrefetchingCursor reads a cursor on a background thread, one batch at a time, so that the
+ * getMore for the next batch runs while the application processes the current one. It is a
+ * {@link MergingCursor} over a single cursor: batches are handed over through a bounded queue, an
+ * error of the underlying cursor is raised once the batches read before it have been consumed, and
+ * close() closes the underlying cursor without interrupting the background thread.
+ */
+final class PrefetchingCursor<T> extends MergingCursor<T> {
+    // The number of batches read ahead of the batch being consumed.
+    static final int DEFAULT_QUEUE_CAPACITY = 2;
+    private static final String THREAD_NAME = "mongodb-jdbc-prefetch";
+
+    PrefetchingCursor(MongoCursor<T> cursor) {
+        this(cursor, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    PrefetchingCursor(MongoCursor<T> cursor, int queueCapacity) {
+        super(Collections.singletonList(cursor), queueCapacity, THREAD_NAME);
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCursor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+
+/**
+ * QueryResultCache keeps the rows of query results, so that a query run again replays its rows
+ * instead of running on the cluster. Results are keyed by database, SQL text with its whitespace
+ * normalized, maximum number of rows and schema catalog version. The results of a direct cluster
+ * query are therefore not used anymore once the schema of one of its collections changes. Changes
+ * to the data itself are only bounded by the time to live.
+ *
+ * <p>Rows are kept as raw BSON, and the size of all the cached rows is bounded by a memory limit:
+ * the least recently used results are evicted first. A result is only cached once its cursor was
+ * read to the end, or to the maximum number of rows of the query, and results larger than a quarter
+ * of the memory limit are not cached.
+ *
+ * <p>A cache is shared by all the connections using the same MongoClient.
+ */
+class QueryResultCache {
+    private static final Map<MongoClient, QueryResultCache> CACHES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    // The number of segments of the cache, each one evicts entries within an equal share of the
+    // memory limit.
+    private static final int CONCURRENCY_LEVEL = 4;
+
+    private final Cache<List<Object>, CachedResult> results;
+    private final long maxResultBytes;
+
+    /**
+     * @param memoryLimit The maximum number of bytes of cached rows.
+     * @param ttlSeconds The number of seconds a result is kept.
+     */
+    QueryResultCache(long memoryLimit, long ttlSeconds) {
+        this.results =
+                CacheBuilder.newBuilder()
+                        .concurrencyLevel(CONCURRENCY_LEVEL)
+                        .maximumWeight(memoryLimit)
+                        .<List<Object>, CachedResult>weigher(
+                                (key, result) -> (int) Math.min(result.bytes, Integer.MAX_VALUE))
+                        .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                        .recordStats()
+                        .build();
+        this.maxResultBytes = memoryLimit / CONCURRENCY_LEVEL;
+    }
+
+    /**
+     * Returns the cache shared by the connections using a client. The cache is created with the
+     * settings of the first connection asking for it.
+     *
+     * @param client The client.
+     * @param memoryLimit The maximum number of bytes of cached rows.
+     * @param ttlSeconds The number of seconds a result is kept.
+     * @return the cache of the client.
+     */
+    static QueryResultCache forClient(MongoClient client, long memoryLimit, long ttlSeconds) {
+        return CACHES.computeIfAbsent(client, c -> new QueryResultCache(memoryLimit, ttlSeconds));
+    }
+
+    private static List<Object> key(String dbName, String sql, long maxRows, long catalogVersion) {
+        return Arrays.asList(dbName, normalize(sql), maxRows, catalogVersion);
+    }
+
+    /**
+     * Collapses the whitespace of a query outside of its literals, quoted identifiers and comments,
+     * so that queries which only differ by their layout share their results.
+     */
+    static String normalize(String sql) {
+        StringBuilder normalized = new StringBuilder(sql.length());
+        int length = sql.length();
+        boolean space = false;
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = true;
+                i++;
+                continue;
+            }
+            int end;
+            if (c == '\'' || c == '"' || c == '`') {
+                // A doubled quote reads as the end of a quoted text followed by a new one.
+                end = sql.indexOf(c, i + 1);
+                end = end == -1 ? length : end + 1;
+            } else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                end = sql.indexOf('\n', i);
+                end = end == -1 ? length : end + 1;
+            } else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                end = sql.indexOf("*/", i + 2);
+                end = end == -1 ? length : end + 2;
+            } else {
+                end = i + 1;
+            }
+            if (space && normalized.length() > 0) {
+                normalized.append(' ');
+            }
+            space = false;
+            normalized.append(sql, i, end);
+            i = end;
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * @param dbName The database of the query.
+     * @param sql The SQL query.
+     * @param maxRows The maximum number of rows of the query, or 0 for no limit.
+     * @param catalogVersion The version of the schema catalog of the database.
+     * @return the result of the query, or null if it is not cached.
+     */
+    CachedResult get(String dbName, String sql, long maxRows, long catalogVersion) {
+        return results.getIfPresent(key(dbName, sql, maxRows, catalogVersion));
+    }
+
+    /**
+     * Wraps the cursor of a query, so that its rows are cached once the cursor is read to the end
+     * or to the maximum number of rows. The result set stops reading at the maximum number of rows
+     * without seeing the end of the cursor.
+     *
+     * @param cursor The cursor of the query, which reads RawBsonDocument rows.
+     * @param dbName The database of the query.
+     * @param sql The SQL query.
+     * @param maxRows The maximum number of rows of the query, or 0 for no limit.
+     * @param catalogVersion The version of the schema catalog the query was translated with.
+     * @param schema The schema of the result set.
+     * @param selectOrder The order of the columns of the result set.
+     * @return the cursor to read.
+     */
+    <T extends BsonDocument> MongoCursor<T> record(
+            MongoCursor<T> cursor,
+            String dbName,
+            String sql,
+            long maxRows,
+            long catalogVersion,
+            MongoJsonSchema schema,
+            List<List<String>> selectOrder) {
+        return new RecordingCursor<>(
+                cursor, key(dbName, sql, maxRows, catalogVersion), maxRows, schema, selectOrder);
+    }
+
+    /** @return the usage counters of the cache. */
+    MongoCacheStats getStats() {
+        CacheStats stats = results.stats();
+        return new MongoCacheStats(
+                stats.hitCount(), stats.missCount(), stats.evictionCount(), results.size());
+    }
+
+    /** CachedResult holds the rows of a query and the metadata of its result set. */
+    static final class CachedResult {
+        final List<RawBsonDocument> rows;
+        final MongoJsonSchema schema;
+        final List<List<String>> selectOrder;
+        final long bytes;
+
+        CachedResult(
+                List<RawBsonDocument> rows,
+                MongoJsonSchema schema,
+                List<List<String>> selectOrder,
+                long bytes) {
+            this.rows = rows;
+            this.schema = schema;
+            this.selectOrder = selectOrder;
+            this.bytes = bytes;
+        }
+
+        /** @return a cursor over the cached rows. */
+        MongoCursor<RawBsonDocument> cursor() {
+            return new ReplayCursor(rows);
+        }
+    }
+
+    /**
+     * RecordingCursor keeps the rows read from a cursor, and caches them at its end or once the
+     * maximum number of rows is read.
+     */
+    private final class RecordingCursor<T extends BsonDocument> implements MongoCursor<T> {
+        private final MongoCursor<T> cursor;
+        private final List<Object> key;
+        private final long maxRows;
+        private final MongoJsonSchema schema;
+        private final List<List<String>> selectOrder;
+        // The rows read so far, or null once the result cannot be cached.
+        private List<RawBsonDocument> rows = new ArrayList<>();
+        private long bytes = 0;
+
+        RecordingCursor(
+                MongoCursor<T> cursor,
+                List<Object> key,
+                long maxRows,
+                MongoJsonSchema schema,
+                List<List<String>> selectOrder) {
+            this.cursor = cursor;
+            this.key = key;
+            this.maxRows = maxRows;
+            this.schema = schema;
+            this.selectOrder = selectOrder;
+        }
+
+        private T recordRow(T row) {
+            if (rows == null || row == null) {
+                return row;
+            }
+            if (!(row instanceof RawBsonDocument)) {
+                rows = null;
+                return row;
+            }
+            RawBsonDocument raw = (RawBsonDocument) row;
+            bytes += raw.getByteBuffer().remaining();
+            if (bytes > maxResultBytes) {
+                rows = null;
+            } else {
+                rows.add(raw);
+                if (rows.size() == maxRows) {
+                    // The pipeline limits the rows, the cursor has no other row.
+                    cacheRows();
+                }
+            }
+            return row;
+        }
+
+        private void cacheRows() {
+            if (rows != null) {
+                results.put(
+                        key,
+                        new CachedResult(
+                                Collections.unmodifiableList(rows), schema, selectOrder, bytes));
+                rows = null;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean hasNext = cursor.hasNext();
+            if (!hasNext) {
+                cacheRows();
+            }
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            return recordRow(cursor.next());
+        }
+
+        @Override
+        public int available() {
+            return cursor.available();
+        }
+
+        @Override
+        public T tryNext() {
+            return recordRow(cursor.tryNext());
+        }
+
+        @Override
+        public ServerCursor getServerCursor() {
+            return cursor.getServerCursor();
+        }
+
+        @Override
+        public ServerAddress getServerAddress() {
+            return cursor.getServerAddress();
+        }
+
+        /** Closes the cursor. A result which was not read to the end is not cached. */
+        @Override
+        public void close() {
+            rows = null;
+            cursor.close();
+        }
+    }
+
+    /** ReplayCursor reads cached rows. It has no server cursor. */
+    private static final class ReplayCursor implements MongoCursor<RawBsonDocument> {
+        private final List<RawBsonDocument> rows;
+        private int index = 0;
+
+        ReplayCursor(List<RawBsonDocument> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < rows.size();
+        }
+
+        @Override
+        public RawBsonDocument next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return rows.get(index++);
+        }
+
+        @Override
+        public int available() {
+            return rows.size() - index;
+        }
+
+        @Override
+        public RawBsonDocument tryNext() {
+            return hasNext() ? next() : null;
+        }
+
+        @Override
+        public ServerCursor getServerCursor() {
+            return null;
+        }
+
+        @Override
+        public ServerAddress getServerAddress() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+            index = rows.size();
+        }
+    }
+}
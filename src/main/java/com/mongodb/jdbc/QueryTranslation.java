@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import com.mongodb.jdbc.mongosql.TranslateResult;
+import java.util.List;
+
+/**
+ * The translation of a direct cluster query, along with what is needed to tell whether it can
+ * still be used: the databases it was translated in and the version of the schema catalog it was
+ * translated with.
+ */
+class QueryTranslation {
+    // The current database of the statement when the query was translated.
+    final String currentDbName;
+    // The database the query runs in.
+    final String queryDbName;
+    // True if the query names its database, it then does not depend on the current database.
+    final boolean qualified;
+    // The collections whose schemas the translation depends on.
+    final List<String> collections;
+    // The version of the schemas of the query database when the catalog was built.
+    final long catalogVersion;
+    final TranslateResult translateResult;
+
+    QueryTranslation(
+            String currentDbName,
+            String queryDbName,
+            boolean qualified,
+            List<String> collections,
+            long catalogVersion,
+            TranslateResult translateResult) {
+        this.currentDbName = currentDbName;
+        this.queryDbName = queryDbName;
+        this.qualified = qualified;
+        this.collections = collections;
+        this.catalogVersion = catalogVersion;
+        this.translateResult = translateResult;
+    }
+}
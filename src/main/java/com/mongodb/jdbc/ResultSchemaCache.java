@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.mongodb.client.MongoClient;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResultSchemaCache keeps the results of the sqlGetResultSchema command of Atlas Data Federation,
+ * keyed by database and SQL text, so that a query run again only sends its aggregate. Schemas can
+ * change on the server without notice, so entries expire after the time to live.
+ *
+ * <p>A cache is shared by all the connections using the same MongoClient.
+ */
+class ResultSchemaCache {
+    // The maximum number of schemas of the cache of a client.
+    static final int MAXIMUM_SIZE = 1000;
+
+    private static final Map<MongoClient, ResultSchemaCache> CACHES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Cache<Map.Entry<String, String>, MongoJsonSchemaResult> schemas;
+
+    /**
+     * @param maximumSize The maximum number of schemas.
+     * @param ttlSeconds The number of seconds a schema is kept.
+     */
+    ResultSchemaCache(int maximumSize, long ttlSeconds) {
+        this.schemas =
+                CacheBuilder.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                        .recordStats()
+                        .build();
+    }
+
+    /**
+     * Returns the cache shared by the connections using a client. The cache is created with the
+     * settings of the first connection asking for it.
+     *
+     * @param client The client.
+     * @param ttlSeconds The number of seconds a schema is kept.
+     * @return the cache of the client.
+     */
+    static ResultSchemaCache forClient(MongoClient client, long ttlSeconds) {
+        return CACHES.computeIfAbsent(client, c -> new ResultSchemaCache(MAXIMUM_SIZE, ttlSeconds));
+    }
+
+    /**
+     * @param dbName The database of the query.
+     * @param sql The SQL query.
+     * @return the result schema of the query, or null if it is not cached.
+     */
+    MongoJsonSchemaResult get(String dbName, String sql) {
+        return schemas.getIfPresent(new SimpleImmutableEntry<>(dbName, sql));
+    }
+
+    /**
+     * @param dbName The database of the query.
+     * @param sql The SQL query.
+     * @param schema The result schema of the query.
+     */
+    void put(String dbName, String sql, MongoJsonSchemaResult schema) {
+        schemas.put(new SimpleImmutableEntry<>(dbName, sql), schema);
+    }
+
+    /** @return the usage counters of the cache. */
+    MongoCacheStats getStats() {
+        CacheStats stats = schemas.stats();
+        return new MongoCacheStats(
+                stats.hitCount(), stats.missCount(), stats.evictionCount(), schemas.size());
+    }
+}
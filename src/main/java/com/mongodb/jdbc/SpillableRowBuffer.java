@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.bson.RawBsonDocument;
+
+/**
+ * SpillableRowBuffer keeps the rows read by a scrollable result set as raw BSON, so that they can
+ * be read again without querying the cluster again. Rows are kept in memory until their total size
+ * reaches the memory limit. The following rows are appended to a temporary file, which is read
+ * back through a memory mapping.
+ */
+final class SpillableRowBuffer implements Closeable {
+    // The maximum size of the spill file mapping. Rows larger than this are mapped on their own.
+    private static final long MAX_MAPPING_SIZE = 64L * 1024 * 1024;
+
+    private final long memoryLimit;
+    private final List<RawBsonDocument> memoryRows = new ArrayList<>();
+    private long memoryBytes = 0;
+
+    // The offset and length in the spill file of each spilled row.
+    private long[] spillOffsets = new long[0];
+    private int[] spillLengths = new int[0];
+    private int spillCount = 0;
+    private Path spillPath;
+    private FileChannel spillChannel;
+    private long spillSize = 0;
+
+    // The mapping of the spill file region the last spilled row was read from.
+    private MappedByteBuffer mapping;
+    private long mappingOffset;
+
+    /** @param memoryLimit The maximum number of bytes of rows kept in memory. */
+    SpillableRowBuffer(long memoryLimit) {
+        this.memoryLimit = memoryLimit;
+    }
+
+    /** @return the number of rows in the buffer. */
+    int size() {
+        return memoryRows.size() + spillCount;
+    }
+
+    /** @return true if rows have been written to the spill file. */
+    boolean hasSpilled() {
+        return spillCount > 0;
+    }
+
+    /**
+     * Appends a row to the buffer.
+     *
+     * @param row The row.
+     * @throws IOException if the row cannot be written to the spill file.
+     */
+    void add(RawBsonDocument row) throws IOException {
+        ByteBuffer bytes = row.getByteBuffer().asNIO();
+        int length = bytes.remaining();
+        // Once a row is spilled, the following rows are spilled too so that rows keep their order.
+        if (spillChannel == null && memoryBytes + length <= memoryLimit) {
+            memoryRows.add(row);
+            memoryBytes += length;
+            return;
+        }
+
+        if (spillChannel == null) {
+            spillPath = Files.createTempFile("mongodb-jdbc-rows", ".bson");
+            spillChannel =
+                    FileChannel.open(
+                            spillPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        if (spillCount == spillOffsets.length) {
+            int capacity = Math.max(16, spillCount * 2);
+            spillOffsets = Arrays.copyOf(spillOffsets, capacity);
+            spillLengths = Arrays.copyOf(spillLengths, capacity);
+        }
+        spillOffsets[spillCount] = spillSize;
+        spillLengths[spillCount] = length;
+        while (bytes.hasRemaining()) {
+            spillSize += spillChannel.write(bytes, spillSize);
+        }
+        spillCount++;
+    }
+
+    /**
+     * Returns a row of the buffer.
+     *
+     * @param index The zero-based row index, less than size().
+     * @return the row.
+     * @throws IOException if the row cannot be read from the spill file.
+     */
+    RawBsonDocument get(int index) throws IOException {
+        if (index < memoryRows.size()) {
+            return memoryRows.get(index);
+        }
+        int spillIndex = index - memoryRows.size();
+        long offset = spillOffsets[spillIndex];
+        int length = spillLengths[spillIndex];
+        if (mapping == null
+                || offset < mappingOffset
+                || offset + length > mappingOffset + mapping.capacity()) {
+            long mappingSize = Math.min(Math.max(length, MAX_MAPPING_SIZE), spillSize - offset);
+            mapping = spillChannel.map(FileChannel.MapMode.READ_ONLY, offset, mappingSize);
+            mappingOffset = offset;
+        }
+        byte[] bytes = new byte[length];
+        ByteBuffer view = mapping.duplicate();
+        // ByteBuffer.position(int) only exists since Java 9, Buffer.position(int) runs on Java 8.
+        ((Buffer) view).position((int) (offset - mappingOffset));
+        view.get(bytes);
+        return new RawBsonDocument(bytes);
+    }
+
+    /** Releases the rows, and deletes the spill file. */
+    @Override
+    public void close() throws IOException {
+        memoryRows.clear();
+        mapping = null;
+        if (spillChannel != null) {
+            spillChannel.close();
+            spillChannel = null;
+            try {
+                Files.deleteIfExists(spillPath);
+            } catch (IOException e) {
+                // The file may still be mapped on some platforms until the mapping is collected.
+                spillPath.toFile().deleteOnExit();
+            }
+        }
+    }
+}
@@ -34,6 +34,8 @@ import com.mongodb.jdbc.utils.BsonUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 import org.bson.*;
@@ -198,6 +200,26 @@ public class MongoSQLTranslate {
             String dbName,
             List<GetNamespacesResult.Namespace> collections)
             throws MongoSQLException {
+        return buildCatalogDocument(mongoDatabase, dbName, collections, 0);
+    }
+
+    /**
+     * Builds a catalog document like {@link #buildCatalogDocument(MongoDatabase, String, List)},
+     * with a time limit on the aggregation reading the schemas.
+     *
+     * @param mongoDatabase The current database for this connection.
+     * @param dbName The name of the database where the collections must be.
+     * @param collections The list of collections to retrieve the schemas for.
+     * @param maxTimeMS The maximum number of milliseconds the aggregation may run, or 0 for no
+     *     limit.
+     * @return the schema catalog for all the specified collections.
+     */
+    public BsonDocument buildCatalogDocument(
+            MongoDatabase mongoDatabase,
+            String dbName,
+            List<GetNamespacesResult.Namespace> collections,
+            long maxTimeMS)
+            throws MongoSQLException {
 
         // There is no collection tied to the query
         // For example "SELECT 1"
@@ -272,6 +294,9 @@ public class MongoSQLTranslate {
         MongoCollection<BsonDocument> collection =
                 mongoDatabase.getCollection(SQL_SCHEMAS_COLLECTION, BsonDocument.class);
         AggregateIterable<BsonDocument> result = collection.aggregate(pipeline);
+        if (maxTimeMS > 0) {
+            result = result.maxTime(maxTimeMS, TimeUnit.MILLISECONDS);
+        }
 
         BsonDocument catalog = null;
         boolean foundResult = false;
@@ -313,6 +338,57 @@ public class MongoSQLTranslate {
         return catalog;
     }
 
+    /**
+     * Builds a catalog document like {@link #buildCatalogDocument(MongoDatabase, String, List)},
+     * with the schemas of a schema catalog cache. Only the schemas which are not cached are read
+     * from the database.
+     *
+     * @param mongoDatabase The current database for this connection.
+     * @param dbName The name of the database where the collections must be.
+     * @param collections The list of collections to retrieve the schemas for.
+     * @param cache The schema catalog cache, or null to read all the schemas from the database.
+     * @param maxTimeMS The maximum number of milliseconds reading the schemas may take, or 0 for
+     *     no limit.
+     * @return the schema catalog for all the specified collections.
+     */
+    public BsonDocument buildCatalogDocument(
+            MongoDatabase mongoDatabase,
+            String dbName,
+            List<GetNamespacesResult.Namespace> collections,
+            SchemaCatalogCache cache,
+            long maxTimeMS)
+            throws MongoSQLException {
+        if (cache == null || collections == null || collections.isEmpty()) {
+            return buildCatalogDocument(mongoDatabase, dbName, collections, maxTimeMS);
+        }
+
+        List<String> collectionNames =
+                collections.stream().map(ns -> ns.collection).collect(Collectors.toList());
+        Map<String, BsonValue> schemas =
+                cache.getSchemas(mongoDatabase, collectionNames, maxTimeMS);
+        BsonDocument catalogSchemas = new BsonDocument();
+        if (schemas.isEmpty()) {
+            logger.log(
+                    Level.SEVERE,
+                    "No schema information found for any of the requested collections. Will use empty schemas. Hint: Generate schemas for your collections.");
+            for (String collectionName : collectionNames) {
+                catalogSchemas.append(collectionName, new BsonDocument());
+            }
+        } else {
+            List<String> missingCollections =
+                    collectionNames
+                            .stream()
+                            .filter(c -> !schemas.containsKey(c))
+                            .collect(Collectors.toList());
+            if (!missingCollections.isEmpty()) {
+                throw new MongoSQLException(
+                        "Could not retrieve schema for collections: " + missingCollections);
+            }
+            schemas.forEach(catalogSchemas::append);
+        }
+        return new BsonDocument(dbName, catalogSchemas);
+    }
+
     /**
      * Retrieves the schema of a specific collection from the MongoDB database.
      *
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc.mongosql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+/**
+ * ParameterizedQuery separates the string literals of a SQL query from its shape, so that queries
+ * which only differ by their string literals share a single translation.
+ *
+ * <p>The shape is the query with each string literal replaced by a placeholder string literal.
+ * The shape is translated, and the placeholders are replaced in the translated pipeline by the
+ * literals of the query. Only placeholders which are found unchanged in the pipeline can be
+ * replaced: when a literal is transformed by the translation, for example a LIKE pattern turned
+ * into a regular expression or a literal folded into a constant, binding fails and the query must
+ * be translated as is.
+ */
+public class ParameterizedQuery {
+    private static final String PLACEHOLDER_PREFIX = "__mongodb_jdbc_literal_";
+    private static final String PLACEHOLDER_SUFFIX = "__";
+
+    private final String shape;
+    private final List<String> literals;
+
+    private ParameterizedQuery(String shape, List<String> literals) {
+        this.shape = shape;
+        this.literals = literals;
+    }
+
+    /**
+     * Extracts the string literals of a query.
+     *
+     * @param sql The SQL query.
+     * @return the parameterized query, or null if the query has no string literal which can be
+     *     extracted.
+     */
+    public static ParameterizedQuery parse(String sql) {
+        if (sql.contains(PLACEHOLDER_PREFIX)) {
+            return null;
+        }
+        StringBuilder shape = new StringBuilder(sql.length());
+        List<String> literals = new ArrayList<>();
+        int i = 0;
+        int length = sql.length();
+        while (i < length) {
+            char c = sql.charAt(i);
+            int end;
+            if (c == '\'') {
+                StringBuilder literal = new StringBuilder();
+                end = i + 1;
+                while (true) {
+                    if (end >= length) {
+                        // Unterminated literal, let the translation report it.
+                        return null;
+                    }
+                    char l = sql.charAt(end++);
+                    if (l == '\'') {
+                        if (end < length && sql.charAt(end) == '\'') {
+                            literal.append('\'');
+                            end++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        literal.append(l);
+                    }
+                }
+                String value = literal.toString();
+                // A string starting with $ is a field path in aggregation expressions, these
+                // literals are left in the shape rather than substituted.
+                if (value.startsWith("$")) {
+                    shape.append(sql, i, end);
+                } else {
+                    shape.append('\'').append(placeholder(literals.size())).append('\'');
+                    literals.add(value);
+                }
+                i = end;
+                continue;
+            } else {
+                end = Math.max(skipIdentifierOrComment(sql, i), i + 1);
+            }
+            shape.append(sql, i, end);
+            i = end;
+        }
+        return literals.isEmpty() ? null : new ParameterizedQuery(shape.toString(), literals);
+    }
+
+    /**
+     * Finds the ? parameter markers of a query, ignoring the ones in string literals, quoted
+     * identifiers and comments.
+     *
+     * @param sql The SQL query.
+     * @return the indexes of the parameter markers in the query.
+     */
+    public static List<Integer> findParameterMarkers(String sql) {
+        List<Integer> markers = new ArrayList<>();
+        int i = 0;
+        int length = sql.length();
+        while (i < length) {
+            char c = sql.charAt(i);
+            int end = skipIdentifierOrComment(sql, i);
+            if (end > i) {
+                i = end;
+            } else if (c == '\'') {
+                // A doubled quote escapes a quote, and reads as two consecutive literals here.
+                end = sql.indexOf('\'', i + 1);
+                i = end == -1 ? length : end + 1;
+            } else {
+                if (c == '?') {
+                    markers.add(i);
+                }
+                i++;
+            }
+        }
+        return markers;
+    }
+
+    /**
+     * Skips the quoted identifier or the comment starting at an index.
+     *
+     * @return the index following the identifier or comment, or the index itself if none starts
+     *     there.
+     */
+    private static int skipIdentifierOrComment(String sql, int i) {
+        int length = sql.length();
+        char c = sql.charAt(i);
+        int end;
+        if (c == '"' || c == '`') {
+            end = sql.indexOf(c, i + 1);
+            // Doubled quotes escape a quote inside the identifier.
+            while (end != -1 && end + 1 < length && sql.charAt(end + 1) == c) {
+                end = sql.indexOf(c, end + 2);
+            }
+            return end == -1 ? length : end + 1;
+        } else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+            end = sql.indexOf('\n', i);
+            return end == -1 ? length : end + 1;
+        } else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+            end = sql.indexOf("*/", i + 2);
+            return end == -1 ? length : end + 2;
+        }
+        return i;
+    }
+
+    private static String placeholder(int index) {
+        return PLACEHOLDER_PREFIX + index + PLACEHOLDER_SUFFIX;
+    }
+
+    /** @return the query with its string literals replaced by placeholders. */
+    public String getShape() {
+        return shape;
+    }
+
+    /** @return the string literals of the query, in order. */
+    public List<String> getLiterals() {
+        return literals;
+    }
+
+    /**
+     * Replaces the placeholders of the translation of the shape by the literals of this query.
+     *
+     * @param shapeTranslation The translation of the shape.
+     * @return the translation of the query, or null if a placeholder cannot be replaced.
+     */
+    public TranslateResult bind(TranslateResult shapeTranslation) {
+        boolean[] found = new boolean[literals.size()];
+        List<BsonDocument> pipeline = new ArrayList<>(shapeTranslation.pipeline.size());
+        for (BsonDocument stage : shapeTranslation.pipeline) {
+            BsonValue bound = bind(stage, found);
+            if (bound == null) {
+                return null;
+            }
+            pipeline.add(bound.asDocument());
+        }
+        for (boolean f : found) {
+            if (!f) {
+                return null;
+            }
+        }
+        return shapeTranslation.withPipeline(pipeline);
+    }
+
+    /**
+     * Copies a value, replacing the placeholders.
+     *
+     * @param value The value.
+     * @param found Set for each placeholder replaced.
+     * @return the copy, or null if a placeholder was transformed by the translation.
+     */
+    private BsonValue bind(BsonValue value, boolean[] found) {
+        if (value.isString()) {
+            String s = value.asString().getValue();
+            if (!s.contains(PLACEHOLDER_PREFIX)) {
+                return value;
+            }
+            int index = placeholderIndex(s);
+            if (index < 0) {
+                return null;
+            }
+            found[index] = true;
+            // The literals left in the shape are the ones starting with $, so a substituted
+            // literal cannot be read as a field path or a variable.
+            return new BsonString(literals.get(index));
+        } else if (value.isDocument()) {
+            BsonDocument doc = value.asDocument();
+            BsonDocument copy = new BsonDocument();
+            for (Map.Entry<String, BsonValue> e : doc.entrySet()) {
+                if (e.getKey().contains(PLACEHOLDER_PREFIX)) {
+                    return null;
+                }
+                BsonValue bound = bind(e.getValue(), found);
+                if (bound == null) {
+                    return null;
+                }
+                copy.put(e.getKey(), bound);
+            }
+            return copy;
+        } else if (value.isArray()) {
+            BsonArray copy = new BsonArray();
+            for (BsonValue v : value.asArray()) {
+                BsonValue bound = bind(v, found);
+                if (bound == null) {
+                    return null;
+                }
+                copy.add(bound);
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    private int placeholderIndex(String s) {
+        if (!s.startsWith(PLACEHOLDER_PREFIX) || !s.endsWith(PLACEHOLDER_SUFFIX)) {
+            return -1;
+        }
+        try {
+            int index =
+                    Integer.parseInt(
+                            s.substring(
+                                    PLACEHOLDER_PREFIX.length(),
+                                    s.length() - PLACEHOLDER_SUFFIX.length()));
+            return index >= 0 && index < literals.size() ? index : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
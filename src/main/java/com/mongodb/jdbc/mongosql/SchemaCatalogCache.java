@@ -0,0 +1,348 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc.mongosql;
+
+import static com.mongodb.jdbc.mongosql.MongoSQLTranslate.SQL_SCHEMAS_COLLECTION;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.jdbc.MongoCacheStats;
+import com.mongodb.jdbc.utils.MongoThreads;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+/**
+ * SchemaCatalogCache keeps the collection schemas stored in the __sql_schemas collection of each
+ * database, so that the schema catalog of a query is assembled locally instead of querying the
+ * cluster for every query.
+ *
+ * <p>The cache of a database follows a change stream on its __sql_schemas collection, and drops a
+ * schema as soon as it changes. Where change streams are not available, for example on standalone
+ * servers or without the changeStream privilege, schemas are reloaded once their time to live has
+ * passed, and opening the change stream is attempted again after the same delay.
+ *
+ * <p>Each change stream is followed by a background thread. At most {@link #MAX_WATCHED_DATABASES}
+ * databases are watched at a time, the others rely on the time to live, and the change stream of a
+ * database which was not queried for {@link #WATCH_IDLE_MINUTES} minutes is closed.
+ *
+ * <p>A cache is shared by all the connections using the same MongoClient.
+ */
+public class SchemaCatalogCache {
+    private static final Map<MongoClient, SchemaCatalogCache> CACHES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    private static final String WATCHER_THREAD_NAME = "mongodb-jdbc-schema-watcher";
+    // The maximum number of change streams followed per client.
+    public static final int MAX_WATCHED_DATABASES = 16;
+    // The number of minutes without queries after which the change stream of a database is closed.
+    public static final long WATCH_IDLE_MINUTES = 10;
+    private static final long WATCH_IDLE_NANOS = TimeUnit.MINUTES.toNanos(WATCH_IDLE_MINUTES);
+
+    private final long ttlNanos;
+    private final Map<String, DatabaseSchemas> databases = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    // The number of change streams being followed.
+    private final AtomicInteger watcherCount = new AtomicInteger();
+
+    /** @param ttlSeconds The number of seconds a schema is kept when there is no change stream. */
+    public SchemaCatalogCache(long ttlSeconds) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    /**
+     * Returns the cache shared by the connections using a client. The cache is created with the
+     * settings of the first connection asking for it.
+     *
+     * @param client The client.
+     * @param ttlSeconds The number of seconds a schema is kept when there is no change stream.
+     * @return the cache of the client.
+     */
+    public static SchemaCatalogCache forClient(MongoClient client, long ttlSeconds) {
+        return CACHES.computeIfAbsent(client, c -> new SchemaCatalogCache(ttlSeconds));
+    }
+
+    /**
+     * Returns the schemas of collections. The schemas which are not cached are read from the
+     * __sql_schemas collection with a single query.
+     *
+     * @param mongoDatabase The database of the collections.
+     * @param collectionNames The collection names.
+     * @return the schema of each collection which has one, in the order of the collection names.
+     */
+    public Map<String, BsonValue> getSchemas(
+            MongoDatabase mongoDatabase, List<String> collectionNames) {
+        return getSchemas(mongoDatabase, collectionNames, 0);
+    }
+
+    /**
+     * Returns the schemas of collections like {@link #getSchemas(MongoDatabase, List)}, with a
+     * time limit on the query reading the schemas which are not cached.
+     *
+     * @param mongoDatabase The database of the collections.
+     * @param collectionNames The collection names.
+     * @param maxTimeMS The maximum number of milliseconds the query may run, or 0 for no limit.
+     * @return the schema of each collection which has one, in the order of the collection names.
+     */
+    public Map<String, BsonValue> getSchemas(
+            MongoDatabase mongoDatabase, List<String> collectionNames, long maxTimeMS) {
+        DatabaseSchemas schemas =
+                databases.computeIfAbsent(mongoDatabase.getName(), n -> new DatabaseSchemas());
+        schemas.lastUsedNanos = System.nanoTime();
+        schemas.ensureWatching(mongoDatabase);
+
+        Map<String, BsonValue> found = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+        long now = System.nanoTime();
+        for (String name : collectionNames) {
+            Entry entry = schemas.entries.get(name);
+            if (entry != null && (schemas.watching || now - entry.loadedAtNanos < ttlNanos)) {
+                hitCount.incrementAndGet();
+                if (entry.schema != null) {
+                    found.put(name, entry.schema);
+                }
+            } else if (!misses.contains(name)) {
+                missCount.incrementAndGet();
+                misses.add(name);
+            }
+        }
+        if (!misses.isEmpty()) {
+            // A change seen while loading makes the loaded schemas suspect: they are used for
+            // this query, but not cached.
+            long version = schemas.version.get();
+            Map<String, BsonValue> loaded = new LinkedHashMap<>();
+            FindIterable<BsonDocument> find =
+                    mongoDatabase
+                            .getCollection(SQL_SCHEMAS_COLLECTION, BsonDocument.class)
+                            .find(Filters.and(Filters.in("_id", misses), Filters.exists("schema")))
+                            .projection(Projections.include("schema"));
+            if (maxTimeMS > 0) {
+                find = find.maxTime(maxTimeMS, TimeUnit.MILLISECONDS);
+            }
+            for (BsonDocument doc : find.into(new ArrayList<>())) {
+                loaded.put(doc.get("_id").asString().getValue(), doc.get("schema"));
+            }
+            Map<String, Entry> entries = new LinkedHashMap<>();
+            for (String name : misses) {
+                entries.put(name, new Entry(loaded.get(name), now));
+            }
+            schemas.store(entries, version);
+            found.putAll(loaded);
+        }
+
+        // Keep the order of the collection names.
+        Map<String, BsonValue> result = new LinkedHashMap<>();
+        for (String name : collectionNames) {
+            BsonValue schema = found.get(name);
+            if (schema != null) {
+                result.put(name, schema);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the version of the schemas of a database. The version changes every time a cached
+     * schema of the database changes or is dropped.
+     *
+     * @param dbName The database name.
+     * @return the schema catalog version.
+     */
+    public long getVersion(String dbName) {
+        DatabaseSchemas schemas = databases.get(dbName);
+        return schemas == null ? 0 : schemas.version.get();
+    }
+
+    /**
+     * Returns the version of the schemas of a database, after the cached schemas of collections
+     * are reloaded if they expired. Comparing it with a version read before a catalog was built
+     * tells whether the catalog is still current.
+     *
+     * @param mongoDatabase The database of the collections.
+     * @param collectionNames The collection names.
+     * @return the schema catalog version.
+     */
+    public long getVersion(MongoDatabase mongoDatabase, List<String> collectionNames) {
+        return getVersion(mongoDatabase, collectionNames, 0);
+    }
+
+    /**
+     * Returns the version of the schemas of a database like {@link #getVersion(MongoDatabase,
+     * List)}, with a time limit on the query reloading the expired schemas.
+     *
+     * @param mongoDatabase The database of the collections.
+     * @param collectionNames The collection names.
+     * @param maxTimeMS The maximum number of milliseconds the query may run, or 0 for no limit.
+     * @return the schema catalog version.
+     */
+    public long getVersion(
+            MongoDatabase mongoDatabase, List<String> collectionNames, long maxTimeMS) {
+        getSchemas(mongoDatabase, collectionNames, maxTimeMS);
+        return getVersion(mongoDatabase.getName());
+    }
+
+    /** @return the usage counters of the cache, counted per collection. */
+    public MongoCacheStats getStats() {
+        long size = 0;
+        for (DatabaseSchemas schemas : databases.values()) {
+            size += schemas.entries.size();
+        }
+        return new MongoCacheStats(hitCount.get(), missCount.get(), 0, size);
+    }
+
+    /** Drops all the schemas of a database. */
+    public void invalidate(String dbName) {
+        DatabaseSchemas schemas = databases.get(dbName);
+        if (schemas != null) {
+            schemas.invalidateAll();
+        }
+    }
+
+    private static final class Entry {
+        // The schema, or null if the collection has none.
+        final BsonValue schema;
+        final long loadedAtNanos;
+
+        Entry(BsonValue schema, long loadedAtNanos) {
+            this.schema = schema;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+    }
+
+    private final class DatabaseSchemas {
+        final Map<String, Entry> entries = new ConcurrentHashMap<>();
+        final AtomicLong version = new AtomicLong();
+        // True while the change stream is followed, schemas are then kept until they change.
+        volatile boolean watching = false;
+        // When the schemas of the database were last asked for.
+        volatile long lastUsedNanos = System.nanoTime();
+        // When to try opening the change stream again.
+        private long nextWatchAttemptNanos = System.nanoTime();
+
+        synchronized void ensureWatching(MongoDatabase mongoDatabase) {
+            long now = System.nanoTime();
+            if (watching || now - nextWatchAttemptNanos < 0) {
+                return;
+            }
+            nextWatchAttemptNanos = now + ttlNanos;
+            if (watcherCount.incrementAndGet() > MAX_WATCHED_DATABASES) {
+                // Too many databases are watched, rely on the time to live.
+                watcherCount.decrementAndGet();
+                return;
+            }
+            MongoChangeStreamCursor<ChangeStreamDocument<BsonDocument>> cursor;
+            try {
+                // The cursor is opened here, so no change made after this point can be missed.
+                cursor =
+                        mongoDatabase
+                                .getCollection(SQL_SCHEMAS_COLLECTION, BsonDocument.class)
+                                .watch()
+                                .cursor();
+            } catch (RuntimeException e) {
+                // Change streams are not available, rely on the time to live.
+                watcherCount.decrementAndGet();
+                return;
+            }
+            // The schemas cached so far were only valid for their time to live.
+            invalidateAll();
+            watching = true;
+            MongoThreads.newThread(() -> watch(cursor), WATCHER_THREAD_NAME).start();
+        }
+
+        private void watch(MongoChangeStreamCursor<ChangeStreamDocument<BsonDocument>> cursor) {
+            try {
+                while (true) {
+                    // tryNext() returns null when no change arrived within the await time of the
+                    // server, which lets an idle database give its change stream up.
+                    ChangeStreamDocument<BsonDocument> event = cursor.tryNext();
+                    if (event == null) {
+                        if (System.nanoTime() - lastUsedNanos > WATCH_IDLE_NANOS) {
+                            return;
+                        }
+                        continue;
+                    }
+                    BsonDocument documentKey = event.getDocumentKey();
+                    BsonValue id = documentKey == null ? null : documentKey.get("_id");
+                    if (id != null && id.isString()) {
+                        invalidate(id.asString().getValue());
+                    } else {
+                        // Drop, rename and invalidate events are not about a single schema.
+                        invalidateAll();
+                    }
+                }
+            } catch (RuntimeException e) {
+                // The change stream failed, or the client was closed.
+            } finally {
+                watching = false;
+                watcherCount.decrementAndGet();
+                // Changes may have been missed.
+                invalidateAll();
+                try {
+                    cursor.close();
+                } catch (RuntimeException e) {
+                    // The cursor is not used anymore.
+                }
+            }
+        }
+
+        /**
+         * Caches loaded schemas, unless the schemas changed since they were loaded.
+         *
+         * @param loaded The loaded entries, by collection name.
+         * @param loadVersion The version of the schemas when the load started.
+         */
+        synchronized void store(Map<String, Entry> loaded, long loadVersion) {
+            if (version.get() != loadVersion) {
+                return;
+            }
+            boolean changed = false;
+            for (Map.Entry<String, Entry> e : loaded.entrySet()) {
+                Entry previous = entries.put(e.getKey(), e.getValue());
+                changed |=
+                        previous != null && !Objects.equals(previous.schema, e.getValue().schema);
+            }
+            if (changed) {
+                version.incrementAndGet();
+            }
+        }
+
+        synchronized void invalidate(String name) {
+            entries.remove(name);
+            version.incrementAndGet();
+        }
+
+        synchronized void invalidateAll() {
+            entries.clear();
+            version.incrementAndGet();
+        }
+    }
+}
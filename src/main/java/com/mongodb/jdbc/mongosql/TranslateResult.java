@@ -56,6 +56,22 @@ public class TranslateResult {
         this.selectOrder = selectOrder;
     }
 
+    private TranslateResult(TranslateResult source, List<BsonDocument> pipeline) {
+        this.targetDb = source.targetDb;
+        this.targetCollection = source.targetCollection;
+        this.pipeline = pipeline;
+        this.resultSetSchema = source.resultSetSchema;
+        this.selectOrder = source.selectOrder;
+    }
+
+    /**
+     * @param pipeline The pipeline of the copy.
+     * @return a copy of this translation with another pipeline.
+     */
+    public TranslateResult withPipeline(List<BsonDocument> pipeline) {
+        return new TranslateResult(this, pipeline);
+    }
+
     @Override
     public String toString() {
         return BsonUtils.toString(CODEC, this, JSON_WRITER_NO_INDENT_SETTINGS);
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc.mongosql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.mongodb.client.MongoClient;
+import com.mongodb.jdbc.MongoCacheStats;
+import com.mongodb.jdbc.MongoSerializationException;
+import com.mongodb.jdbc.utils.BsonUtils;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import org.bson.BsonDocument;
+
+/**
+ * TranslationCache keeps the results of the mongosqltranslate library for direct cluster queries,
+ * so that a query run again skips the JNI calls. Translations are keyed by database, SQL text and
+ * a fingerprint of the schema catalog they were translated with, so a schema change leads to a
+ * new translation. The namespaces of a query only depend on the database and the SQL text, and
+ * are kept along the translations.
+ *
+ * <p>Queries which only differ by their string literals share the translation of their shape, see
+ * {@link ParameterizedQuery}. The shapes whose translation cannot be reused are remembered, so
+ * that they are not translated in vain for every query.
+ *
+ * <p>A cache is shared by all the connections using the same MongoClient. Entries are evicted in
+ * least recently used order once the cache is full, and expire after the time to live.
+ */
+public class TranslationCache {
+    private static final Map<MongoClient, TranslationCache> CACHES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    /** Computes a value on a cache miss. */
+    public interface Loader<T> {
+        T load() throws MongoSQLException, MongoSerializationException;
+    }
+
+    private final int maximumSize;
+    private final Cache<Key, GetNamespacesResult> namespaces;
+    private final Cache<Key, TranslateResult> translations;
+    // Query shapes whose translation cannot be bound to the literals of a query.
+    private final Cache<Key, Boolean> rejectedShapes;
+
+    /**
+     * @param maximumSize The maximum number of translations, 0 to disable the cache.
+     * @param ttlSeconds The number of seconds an entry is kept, 0 to keep entries until they are
+     *     evicted.
+     */
+    public TranslationCache(int maximumSize, long ttlSeconds) {
+        this.maximumSize = maximumSize;
+        this.namespaces = newCache(maximumSize, ttlSeconds);
+        this.translations = newCache(maximumSize, ttlSeconds);
+        this.rejectedShapes = newCache(maximumSize, ttlSeconds);
+    }
+
+    private static <V> Cache<Key, V> newCache(int maximumSize, long ttlSeconds) {
+        CacheBuilder<Object, Object> builder =
+                CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats();
+        if (ttlSeconds > 0) {
+            builder.expireAfterWrite(ttlSeconds, TimeUnit.SECONDS);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the cache shared by the connections using a client. The cache is created with the
+     * settings of the first connection asking for it.
+     *
+     * @param client The client.
+     * @param maximumSize The maximum number of translations, 0 to disable the cache.
+     * @param ttlSeconds The number of seconds an entry is kept, 0 for no expiration.
+     * @return the cache of the client.
+     */
+    public static TranslationCache forClient(MongoClient client, int maximumSize, long ttlSeconds) {
+        if (maximumSize == 0) {
+            return new TranslationCache(0, 0);
+        }
+        return CACHES.computeIfAbsent(client, c -> new TranslationCache(maximumSize, ttlSeconds));
+    }
+
+    /**
+     * Returns the namespaces of a query, from the cache or from the loader.
+     *
+     * @param dbName The current database.
+     * @param sql The SQL query.
+     * @param loader Runs getNamespaces on a cache miss.
+     * @return the namespaces of the query.
+     */
+    public GetNamespacesResult getNamespaces(
+            String dbName, String sql, Loader<GetNamespacesResult> loader)
+            throws MongoSQLException, MongoSerializationException {
+        return get(namespaces, new Key(dbName, sql, null), loader);
+    }
+
+    /**
+     * Returns the translation of a query, from the cache or from the loader.
+     *
+     * @param dbName The database of the query.
+     * @param sql The SQL query.
+     * @param catalog The schema catalog the query is translated with.
+     * @param loader Runs translate on a cache miss.
+     * @return the translation of the query.
+     */
+    public TranslateResult getTranslation(
+            String dbName, String sql, BsonDocument catalog, Loader<TranslateResult> loader)
+            throws MongoSQLException, MongoSerializationException {
+        if (maximumSize == 0) {
+            return loader.load();
+        }
+        return get(translations, new Key(dbName, sql, fingerprint(catalog)), loader);
+    }
+
+    /** @return true if translations are cached. */
+    public boolean isEnabled() {
+        return maximumSize > 0;
+    }
+
+    /**
+     * Tells whether the translations of a query shape were found not to be reusable.
+     *
+     * @param dbName The database of the query.
+     * @param shape The query shape, see {@link ParameterizedQuery#getShape()}.
+     * @return true if the shape was rejected.
+     */
+    public boolean isRejectedShape(String dbName, String shape) {
+        return rejectedShapes.getIfPresent(new Key(dbName, shape, null)) != null;
+    }
+
+    /**
+     * Records that the translation of a query shape cannot be bound to the literals of a query, so
+     * that the queries of this shape are translated as is until the entry expires.
+     *
+     * @param dbName The database of the query.
+     * @param shape The query shape, see {@link ParameterizedQuery#getShape()}.
+     */
+    public void rejectShape(String dbName, String shape) {
+        rejectedShapes.put(new Key(dbName, shape, null), Boolean.TRUE);
+    }
+
+    private <V> V get(Cache<Key, V> cache, Key key, Loader<V> loader)
+            throws MongoSQLException, MongoSerializationException {
+        if (maximumSize == 0) {
+            return loader.load();
+        }
+        V value = cache.getIfPresent(key);
+        if (value == null) {
+            // Concurrent misses on the same key may load it more than once, which is harmless
+            // and does not block the other queries on the JNI call.
+            value = loader.load();
+            cache.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Computes a fingerprint of a schema catalog.
+     *
+     * @param catalog The schema catalog.
+     * @return the hex SHA-256 of the BSON catalog.
+     * @throws MongoSerializationException if the catalog cannot be serialized.
+     */
+    public static String fingerprint(BsonDocument catalog) throws MongoSerializationException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256.
+            throw new IllegalStateException(e);
+        }
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b : digest.digest(BsonUtils.serialize(catalog))) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /** @return the usage counters of the translations. */
+    public MongoCacheStats getStats() {
+        CacheStats stats = translations.stats();
+        return new MongoCacheStats(
+                stats.hitCount(), stats.missCount(), stats.evictionCount(), translations.size());
+    }
+
+    /** Removes all the entries. */
+    public void invalidateAll() {
+        namespaces.invalidateAll();
+        translations.invalidateAll();
+        rejectedShapes.invalidateAll();
+    }
+
+    private static final class Key {
+        private final String dbName;
+        private final String sql;
+        private final String catalogFingerprint;
+
+        Key(String dbName, String sql, String catalogFingerprint) {
+            this.dbName = dbName;
+            this.sql = sql;
+            this.catalogFingerprint = catalogFingerprint;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return dbName.equals(other.dbName)
+                    && sql.equals(other.sql)
+                    && Objects.equals(catalogFingerprint, other.catalogFingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dbName, sql, catalogFingerprint);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the background threads of the driver. They are virtual threads on JDK 21 and later, and
+ * daemon platform threads otherwise, so that they never keep the application running.
+ */
+public final class MongoThreads {
+    // Thread.ofVirtual() and Thread.Builder.unstarted(Runnable), if the JDK has virtual threads.
+    private static final Method OF_VIRTUAL;
+    private static final Method UNSTARTED;
+
+    static {
+        Method ofVirtual = null;
+        Method unstarted = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            unstarted =
+                    Class.forName("java.lang.Thread$Builder")
+                            .getMethod("unstarted", Runnable.class);
+        } catch (ReflectiveOperationException e) {
+            // Virtual threads are only available on JDK 21 and later.
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        UNSTARTED = unstarted;
+    }
+
+    private MongoThreads() {}
+
+    /** @return true if the threads of the driver are virtual threads. */
+    public static boolean hasVirtualThreads() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates a virtual thread if the JDK has virtual threads, or a daemon platform thread.
+     *
+     * @param task The task of the thread.
+     * @param name The name of the thread.
+     * @return the unstarted thread.
+     */
+    public static Thread newThread(Runnable task, String name) {
+        if (OF_VIRTUAL != null) {
+            try {
+                Thread thread = (Thread) UNSTARTED.invoke(OF_VIRTUAL.invoke(null), task);
+                thread.setName(name);
+                return thread;
+            } catch (ReflectiveOperationException e) {
+                // Fall back to a platform thread.
+            }
+        }
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Creates an executor running each task on its own virtual thread if the JDK has virtual
+     * threads. Otherwise, the tasks share a bounded pool of daemon platform threads, which stop
+     * after a minute without tasks, and the tasks which find all the threads busy wait in a queue.
+     *
+     * @param name The name of the threads.
+     * @param maxPlatformThreads The maximum number of platform threads.
+     * @return the executor.
+     */
+    public static Executor newExecutor(String name, int maxPlatformThreads) {
+        if (hasVirtualThreads()) {
+            return task -> newThread(task, name).start();
+        }
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(
+                        maxPlatformThreads,
+                        maxPlatformThreads,
+                        1,
+                        TimeUnit.MINUTES,
+                        new LinkedBlockingQueue<>(),
+                        task -> newThread(task, name));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
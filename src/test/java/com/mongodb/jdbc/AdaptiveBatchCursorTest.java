@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoIterable;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveBatchCursorTest {
+
+    @Test
+    void testBatchSizeGrowsWhileRoundTripsDominate() {
+        // The round trip takes as long as reading the batch: the batch size doubles.
+        assertEquals(128, AdaptiveBatchCursor.nextBatchSize(64, 100, 1_000, 1_000, 1 << 20));
+        // Reading the batch takes far longer than the round trip: the batch size is kept.
+        assertEquals(64, AdaptiveBatchCursor.nextBatchSize(64, 100, 1_000, 100_000, 1 << 20));
+    }
+
+    @Test
+    void testBatchSizeIsCappedByTheMemoryLimit() {
+        assertEquals(100, AdaptiveBatchCursor.nextBatchSize(64, 1000, 1_000, 1_000, 100_000));
+        // Larger rows shrink the batch.
+        assertEquals(10, AdaptiveBatchCursor.nextBatchSize(100, 10_000, 1_000, 1_000, 100_000));
+        // A batch holds at least one row.
+        assertEquals(1, AdaptiveBatchCursor.nextBatchSize(10, 1 << 20, 1_000, 1_000, 1000));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testBatchSizeIsLearnedForTheNextExecution() {
+        BsonDocument row = new BsonDocument("i", new BsonInt32(1)).append("s", new BsonString("x"));
+        MongoCursor<BsonDocument> driverCursor = mock(MongoCursor.class);
+        // A first batch of two rows, read with hasNext() and next().
+        when(driverCursor.available()).thenReturn(2, 2, 2, 1, 1, 0);
+        when(driverCursor.hasNext()).thenReturn(false);
+        when(driverCursor.next()).thenReturn(row);
+
+        AdaptiveBatchCursor.BatchSizeHistory history = new AdaptiveBatchCursor.BatchSizeHistory();
+        AdaptiveBatchCursor<BsonDocument> cursor =
+                new AdaptiveBatchCursor<>(
+                        driverCursor, history, "select 1", 2, 1_000_000_000L, 1000);
+        int rows = 0;
+        while (cursor.hasNext()) {
+            assertEquals(row, cursor.next());
+            rows++;
+        }
+        assertEquals(2, rows);
+        // The first batch took long to arrive, so the next execution asks for larger batches.
+        assertEquals(4, cursor.getNextBatchSize());
+        assertEquals(4, history.get("select 1"));
+        assertEquals(0, history.get("select 2"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testCursorIsOpenedWithTheLearnedBatchSize() {
+        MongoIterable<BsonDocument> iterable = mock(MongoIterable.class);
+        MongoCursor<BsonDocument> driverCursor = mock(MongoCursor.class);
+        when(iterable.batchSize(anyInt())).thenReturn(iterable);
+        when(iterable.cursor()).thenReturn(driverCursor);
+        AdaptiveBatchCursor.BatchSizeHistory history = new AdaptiveBatchCursor.BatchSizeHistory();
+
+        // The first execution keeps the server default batches, which fit the memory limit.
+        AdaptiveBatchCursor.open(
+                iterable, history, "select 1", AdaptiveBatchCursor.MAX_SERVER_BATCH_BYTES);
+        verify(iterable, never()).batchSize(anyInt());
+        // With a lower memory limit, it starts with small batches.
+        AdaptiveBatchCursor.open(iterable, history, "select 1", 1000);
+        verify(iterable).batchSize(AdaptiveBatchCursor.INITIAL_BATCH_SIZE);
+
+        history.put("select 1", 500);
+        AdaptiveBatchCursor.open(iterable, history, "select 1", 1000);
+        verify(iterable).batchSize(500);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCursor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.junit.jupiter.api.Test;
+
+class MergingCursorTest {
+
+    private static BsonDocument row(int i) {
+        return new BsonDocument("i", new BsonInt32(i));
+    }
+
+    private static BsonExplicitCursor cursor(int from, int to) {
+        List<BsonDocument> rows = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            rows.add(row(i));
+        }
+        return new BsonExplicitCursor(rows);
+    }
+
+    @Test
+    void testAllRowsAreMerged() {
+        Set<BsonDocument> rows = new HashSet<>();
+        try (MergingCursor<BsonDocument> cursor =
+                new MergingCursor<>(
+                        Arrays.asList(cursor(0, 500), cursor(500, 500), cursor(500, 1000)))) {
+            while (cursor.hasNext()) {
+                assertTrue(rows.add(cursor.next()));
+            }
+            assertNull(cursor.tryNext());
+            assertThrows(NoSuchElementException.class, cursor::next);
+        }
+        assertEquals(1000, rows.size());
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(rows.contains(row(i)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testErrorsStopTheOtherCursors() {
+        MongoCursor<BsonDocument> failing = mock(MongoCursor.class);
+        MongoException error = new MongoException("getMore failed");
+        when(failing.hasNext()).thenThrow(error);
+        MongoCursor<BsonDocument> endless = mock(MongoCursor.class);
+        when(endless.hasNext()).thenReturn(true);
+        when(endless.next()).thenReturn(row(0));
+
+        MergingCursor<BsonDocument> cursor = new MergingCursor<>(Arrays.asList(endless, failing));
+        MongoException raised = null;
+        while (raised == null) {
+            try {
+                assertEquals(row(0), cursor.next());
+            } catch (MongoException e) {
+                raised = e;
+            }
+        }
+        assertSame(error, raised);
+        // The error is raised again, it does not look like the end of the cursor.
+        assertSame(error, assertThrows(MongoException.class, cursor::hasNext));
+        verify(failing, timeout(5000).atLeastOnce()).close();
+        verify(endless, timeout(5000)).close();
+        cursor.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testCloseStopsTheCursors() {
+        MongoCursor<BsonDocument> endless = mock(MongoCursor.class);
+        when(endless.hasNext()).thenReturn(true);
+        when(endless.next()).thenReturn(row(0));
+
+        MergingCursor<BsonDocument> cursor =
+                new MergingCursor<>(Arrays.asList(endless, cursor(0, 10)));
+        assertTrue(cursor.hasNext());
+        cursor.next();
+        cursor.close();
+        assertFalse(cursor.hasNext());
+        verify(endless, timeout(5000)).close();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testCloseWakesUpAWaitingConsumer() throws Exception {
+        CountDownLatch getMoreStarted = new CountDownLatch(1);
+        CountDownLatch getMoreDone = new CountDownLatch(1);
+        MongoCursor<BsonDocument> slow = mock(MongoCursor.class);
+        when(slow.hasNext())
+                .thenAnswer(
+                        invocation -> {
+                            getMoreStarted.countDown();
+                            getMoreDone.await();
+                            return false;
+                        });
+
+        MergingCursor<BsonDocument> cursor = new MergingCursor<>(Arrays.asList(slow));
+        try {
+            CompletableFuture<BsonDocument> consumer = CompletableFuture.supplyAsync(cursor::next);
+            assertTrue(getMoreStarted.await(5, TimeUnit.SECONDS));
+            // Give the consumer time to block on the queue.
+            Thread.sleep(100);
+            assertFalse(consumer.isDone());
+
+            cursor.close();
+            ExecutionException e =
+                    assertThrows(ExecutionException.class, () -> consumer.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        } finally {
+            getMoreDone.countDown();
+        }
+        verify(slow, timeout(5000)).close();
+    }
+}
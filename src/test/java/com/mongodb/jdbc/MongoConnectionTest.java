@@ -26,7 +26,10 @@ import com.mongodb.client.internal.MongoClientImpl;
 import com.mongodb.jdbc.oidc.JdbcOidcCallback;
 import java.lang.reflect.Field;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Savepoint;
 import java.sql.Statement;
 import org.junit.jupiter.api.BeforeAll;
@@ -144,6 +147,34 @@ class MongoConnectionTest extends MongoMock {
         testExceptionAfterConnectionClosed(() -> mongoConnection.createStatement());
     }
 
+    @Test
+    void testPrepareStatementWithHoldability() throws SQLException {
+        PreparedStatement forwardOnly =
+                mongoConnection.prepareStatement(
+                        "select * from foo",
+                        ResultSet.TYPE_FORWARD_ONLY,
+                        ResultSet.CONCUR_READ_ONLY,
+                        ResultSet.HOLD_CURSORS_OVER_COMMIT);
+        assertEquals(ResultSet.TYPE_FORWARD_ONLY, forwardOnly.getResultSetType());
+
+        PreparedStatement scrollable =
+                mongoConnection.prepareStatement(
+                        "select * from foo",
+                        ResultSet.TYPE_SCROLL_INSENSITIVE,
+                        ResultSet.CONCUR_READ_ONLY,
+                        ResultSet.HOLD_CURSORS_OVER_COMMIT);
+        assertEquals(ResultSet.TYPE_SCROLL_INSENSITIVE, scrollable.getResultSetType());
+
+        assertThrows(
+                SQLFeatureNotSupportedException.class,
+                () ->
+                        mongoConnection.prepareStatement(
+                                "select * from foo",
+                                ResultSet.TYPE_SCROLL_SENSITIVE,
+                                ResultSet.CONCUR_READ_ONLY,
+                                ResultSet.HOLD_CURSORS_OVER_COMMIT));
+    }
+
     @Test
     void testSetAutoCommitTrue() {
         testNoop(() -> mongoConnection.setAutoCommit(true));
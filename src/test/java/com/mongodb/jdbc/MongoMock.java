@@ -238,6 +238,7 @@ public abstract class MongoMock {
         // Mock aggregateIterable
         when(aggregateIterable.batchSize(anyInt())).thenReturn(aggregateIterable);
         when(aggregateIterable.maxTime(anyLong(), any())).thenReturn(aggregateIterable);
+        when(aggregateIterable.comment(anyString())).thenReturn(aggregateIterable);
         when(aggregateIterable.cursor()).thenReturn(mongoCursor);
 
         // Mock MongoCursor
@@ -17,36 +17,63 @@
 package com.mongodb.jdbc;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.mongodb.client.MongoCursor;
+import java.io.StringWriter;
 import java.math.BigDecimal;
+import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.bson.BsonArray;
 import org.bson.BsonBinary;
+import org.bson.BsonBoolean;
 import org.bson.BsonDateTime;
+import org.bson.BsonDecimal128;
 import org.bson.BsonDocument;
 import org.bson.BsonDouble;
 import org.bson.BsonInt32;
+import org.bson.BsonInt64;
 import org.bson.BsonNull;
+import org.bson.BsonObjectId;
 import org.bson.BsonString;
 import org.bson.BsonUndefined;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
 import org.bson.UuidRepresentation;
 import org.bson.codecs.BsonDateTimeCodec;
+import org.bson.codecs.BsonDocumentCodec;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.json.JsonMode;
 import org.bson.json.JsonReader;
+import org.bson.json.JsonWriter;
+import org.bson.json.JsonWriterSettings;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -560,6 +587,49 @@ class MongoResultSetTest extends MongoMock {
                 mongoResultSet.getObject(ARRAY_COL_LABEL).toString());
     }
 
+    @Test
+    void testScalarStringificationMatchesJsonWriter() {
+        List<BsonValue> values =
+                Arrays.asList(
+                        new BsonBoolean(true),
+                        new BsonBoolean(false),
+                        new BsonInt32(-7),
+                        new BsonInt32(Integer.MAX_VALUE),
+                        new BsonInt64(Long.MIN_VALUE),
+                        new BsonDouble(1.0),
+                        new BsonDouble(-0.0),
+                        new BsonDouble(2.5e300),
+                        new BsonDouble(1.0e-8),
+                        new BsonDouble(Double.NaN),
+                        new BsonDouble(Double.NEGATIVE_INFINITY),
+                        new BsonDecimal128(Decimal128.parse("21.2")),
+                        new BsonObjectId(new ObjectId("57e193d7a9cc81b4027498b5")),
+                        new BsonDateTime(0),
+                        new BsonDateTime(1608916394123L),
+                        new BsonDateTime(-1),
+                        new BsonDateTime(253402300800000L));
+
+        for (boolean isExtended : new boolean[] {true, false}) {
+            JsonWriterSettings settings =
+                    JsonWriterSettings.builder()
+                            .outputMode(isExtended ? JsonMode.EXTENDED : JsonMode.RELAXED)
+                            .build();
+            for (BsonValue value : values) {
+                StringWriter w = new StringWriter();
+                new BsonDocumentCodec()
+                        .encode(
+                                new JsonWriter(w, settings),
+                                new BsonDocument("v", value),
+                                EncoderContext.builder().build());
+                String expected = w.toString().substring(6, w.toString().length() - 1);
+                assertEquals(
+                        expected,
+                        MongoBsonValue.toString(value, isExtended, UuidRepresentation.STANDARD),
+                        value + " in " + (isExtended ? "extended" : "relaxed") + " mode");
+            }
+        }
+    }
+
     @Test
     public void testGetObjectToStringMatchesGetString() throws Exception {
         // Assert that getObject().toString() matches getString() for BSON types
@@ -712,6 +782,88 @@ class MongoResultSetTest extends MongoMock {
         assertEquals(new Timestamp(3L), mongoResultSet.getTimestamp(ANY_OF_INT_STRING_COL));
     }
 
+    @Test
+    void testGetTemporalObjectValues() throws Exception {
+        assertEquals(Instant.ofEpochMilli(4L), mongoResultSet.getObject(INT_COL, Instant.class));
+        assertEquals(
+                LocalDateTime.of(1970, 1, 1, 0, 0, 0, 4_000_000),
+                mongoResultSet.getObject(INT_COL, LocalDateTime.class));
+        assertEquals(
+                OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 4_000_000, ZoneOffset.UTC),
+                mongoResultSet.getObject(INT_COL, OffsetDateTime.class));
+        assertEquals(
+                LocalDate.of(1970, 1, 1), mongoResultSet.getObject(INT_COL, LocalDate.class));
+        assertEquals(
+                Instant.ofEpochMilli(2L), mongoResultSet.getObject(DOUBLE_COL, Instant.class));
+
+        assertNull(mongoResultSet.getObject(NULL_COL, Instant.class));
+        assertTrue(mongoResultSet.wasNull());
+        assertThrows(
+                SQLException.class,
+                () -> {
+                    mongoResultSet.getObject(STRING_COL, LocalDateTime.class);
+                });
+    }
+
+    @Test
+    void testGetObjectWithClass() throws Exception {
+        assertEquals(Integer.valueOf(4), mongoResultSet.getObject(INT_COL, Integer.class));
+        assertEquals(Long.valueOf(4), mongoResultSet.getObject(INT_COL, Long.class));
+        assertEquals(Short.valueOf((short) 4), mongoResultSet.getObject(INT_COL, Short.class));
+        assertEquals("4", mongoResultSet.getObject(INT_COL, String.class));
+        assertEquals(Boolean.TRUE, mongoResultSet.getObject(INT_COL, Boolean.class));
+        assertEquals(new BigDecimal(4), mongoResultSet.getObject(INT_COL, BigDecimal.class));
+        assertEquals(new BsonInt32(4), mongoResultSet.getObject(INT_COL, BsonValue.class));
+        assertEquals(new BsonInt32(4), mongoResultSet.getObject(INT_COL, Object.class));
+
+        assertEquals(Double.valueOf(2.4), mongoResultSet.getObject(DOUBLE_COL, Double.class));
+        assertEquals(Integer.valueOf(2), mongoResultSet.getObject(DOUBLE_COL, Integer.class));
+        assertEquals("b", mongoResultSet.getObject(STRING_COL, String.class));
+        assertArrayEquals(
+                new byte[] {10, 20, 30}, mongoResultSet.getObject(BINARY_COL, byte[].class));
+
+        // A column read as a different class after its converter has been cached.
+        assertEquals(Double.valueOf(4), mongoResultSet.getObject(INT_COL, Double.class));
+
+        // Primitive classes are read as their boxed class.
+        assertEquals(Integer.valueOf(4), mongoResultSet.getObject(INT_COL, int.class));
+        assertEquals(Long.valueOf(4), mongoResultSet.getObject(INT_COL, long.class));
+        assertEquals(Double.valueOf(2.4), mongoResultSet.getObject(DOUBLE_COL, double.class));
+        assertEquals(Boolean.TRUE, mongoResultSet.getObject(INT_COL, boolean.class));
+        assertEquals(
+                new java.util.Date(4L), mongoResultSet.getObject(INT_COL, java.util.Date.class));
+
+        assertNull(mongoResultSet.getObject(INT_OR_NULL_COL, Integer.class));
+        assertTrue(mongoResultSet.wasNull());
+        assertThrows(
+                SQLException.class,
+                () -> {
+                    mongoResultSet.getObject(INT_COL, ObjectId.class);
+                });
+        assertThrows(
+                SQLException.class,
+                () -> {
+                    mongoResultSet.getObject(STRING_COL, UUID.class);
+                });
+        assertThrows(
+                SQLException.class,
+                () -> {
+                    mongoResultSet.getObject(STRING_COL, Integer.class);
+                });
+    }
+
+    @Test
+    void testParseStringDates() throws Exception {
+        long expected = Instant.parse("2024-03-05T07:08:09.010Z").toEpochMilli();
+        assertEquals(expected, MongoResultSet.parseEpochMillis("2024-03-05T07:08:09.010Z"));
+        // Dates the strict format rejects are still parsed leniently.
+        assertEquals(expected, MongoResultSet.parseEpochMillis("2024-3-5T7:8:9.010Z"));
+        assertEquals(
+                expected, MongoResultSet.parseEpochMillis("2024-03-05T07:08:09.010Z trailing"));
+        assertEquals(expected, MongoResultSet.parseEpochMillis("2024-02-34T07:08:09.010Z"));
+        assertThrows(SQLException.class, () -> MongoResultSet.parseEpochMillis("not a date"));
+    }
+
     @Test
     void testGetObject() throws Exception {
         // test that the index and label versions of getObject have matching results
@@ -1169,6 +1321,231 @@ class MongoResultSetTest extends MongoMock {
         assertFalse(mockResultSet.isLast());
     }
 
+    @Test
+    void testRawRowsMatchDecodedRows() throws Exception {
+        RawBsonDocument rawRow =
+                new RawBsonDocument(generateRowAllTypes(), new BsonDocumentCodec());
+        MongoResultSet rawResultSet =
+                new MongoResultSet(
+                        mongoStatement,
+                        new BsonExplicitCursor(Arrays.asList(rawRow)),
+                        generateMongoJsonSchemaAllTypes(),
+                        null,
+                        false,
+                        UuidRepresentation.STANDARD);
+        assertTrue(rawResultSet.next());
+        assertTrue(rawResultSet.getCurrent() instanceof RawBsonDocument);
+
+        int columnCount = rawResultSet.getMetaData().getColumnCount();
+        assertEquals(mongoResultSetAllTypes.getMetaData().getColumnCount(), columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            assertEquals(mongoResultSetAllTypes.getString(i), rawResultSet.getString(i));
+            assertEquals(mongoResultSetAllTypes.wasNull(), rawResultSet.wasNull());
+        }
+        assertFalse(rawResultSet.next());
+    }
+
+    @Test
+    void testDatasourcesAreResolvedPerRow() throws Exception {
+        BsonDocument row1 =
+                new BsonDocument("", new BsonDocument(STRING_COL_LABEL, new BsonString("x")))
+                        .append("foo", new BsonDocument(INT_COL_LABEL, new BsonInt32(1)));
+        BsonDocument row2 =
+                new BsonDocument("", new BsonDocument(STRING_COL_LABEL, new BsonString("y")))
+                        .append("foo", new BsonDocument(INT_COL_LABEL, new BsonInt32(2)));
+        // The foo datasource is missing from the last row.
+        BsonDocument row3 =
+                new BsonDocument("", new BsonDocument(STRING_COL_LABEL, new BsonString("z")));
+
+        mockResultSet =
+                new MongoResultSet(
+                        mongoStatement,
+                        new BsonExplicitCursor(Arrays.asList(row1, row2, row3)),
+                        schema,
+                        null,
+                        false,
+                        UuidRepresentation.STANDARD);
+
+        assertTrue(mockResultSet.next());
+        assertEquals(1, mockResultSet.getInt(INT_COL));
+        assertEquals("x", mockResultSet.getString(STRING_COL));
+        assertTrue(mockResultSet.next());
+        assertEquals(2, mockResultSet.getInt(INT_COL));
+        assertEquals("y", mockResultSet.getString(STRING_COL));
+        assertTrue(mockResultSet.next());
+        assertEquals(0, mockResultSet.getInt(INT_COL));
+        assertTrue(mockResultSet.wasNull());
+        assertEquals("z", mockResultSet.getString(STRING_COL));
+
+        assertThrows(SQLException.class, () -> mockResultSet.getInt(0));
+        assertThrows(SQLException.class, () -> mockResultSet.getInt(ARRAY_COL + 1));
+    }
+
+    @Test
+    void testColumnarBatches() throws Exception {
+        List<BsonDocument> rows = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            BsonValue intValue = i == 3 ? new BsonNull() : new BsonInt64(i);
+            rows.add(
+                    new BsonDocument(
+                                    "",
+                                    new BsonDocument(DOUBLE_COL_LABEL, new BsonDouble(i + 0.5))
+                                            .append(STRING_COL_LABEL, new BsonString("s" + i)))
+                            .append("foo", new BsonDocument(INT_COL_LABEL, intValue)));
+        }
+        mockResultSet =
+                new MongoResultSet(
+                        mongoStatement,
+                        new BsonExplicitCursor(rows),
+                        schema,
+                        null,
+                        false,
+                        UuidRepresentation.STANDARD);
+        MongoColumnarResultSet columnar = mockResultSet.unwrap(MongoColumnarResultSet.class);
+
+        long[] longs = new long[3];
+        int[] ints = new int[3];
+        double[] doubles = new double[3];
+        String[] strings = new String[3];
+        BitSet nulls = new BitSet();
+
+        assertEquals(3, columnar.nextBatch(3));
+        columnar.getLongs(INT_COL, longs, nulls);
+        assertArrayEquals(new long[] {0, 1, 2}, longs);
+        assertTrue(nulls.isEmpty());
+        columnar.getDoubles(DOUBLE_COL, doubles, nulls);
+        assertArrayEquals(new double[] {0.5, 1.5, 2.5}, doubles);
+        columnar.getStrings(STRING_COL, strings, nulls);
+        assertArrayEquals(new String[] {"s0", "s1", "s2"}, strings);
+        // The result set is positioned on the last row of the batch.
+        assertEquals("s2", mockResultSet.getString(STRING_COL));
+
+        assertEquals(2, columnar.nextBatch(3));
+        columnar.getInts(INT_COL, ints, nulls);
+        assertEquals(0, ints[0]);
+        assertEquals(4, ints[1]);
+        assertTrue(nulls.get(0));
+        assertFalse(nulls.get(1));
+        columnar.getStrings(NULL_COL, strings, nulls);
+        assertNull(strings[0]);
+        assertEquals(2, nulls.cardinality());
+        BsonValue[] bsonValues = new BsonValue[3];
+        columnar.getBsonValues(INT_COL, bsonValues, nulls);
+        assertNull(bsonValues[0]);
+        assertEquals(new BsonInt64(4), bsonValues[1]);
+
+        assertThrows(SQLException.class, () -> columnar.getLongs(STRING_COL, longs, nulls));
+        assertThrows(SQLException.class, () -> columnar.getLongs(0, longs, nulls));
+        assertThrows(SQLException.class, () -> columnar.getLongs(INT_COL, new long[1], nulls));
+
+        assertEquals(0, columnar.nextBatch(3));
+        assertFalse(mockResultSet.next());
+    }
+
+    @Test
+    void testIntsOutOfRange() throws Exception {
+        BsonDocument row =
+                new BsonDocument(
+                                "",
+                                new BsonDocument(DOUBLE_COL_LABEL, new BsonDouble(0.5))
+                                        .append(STRING_COL_LABEL, new BsonString("s")))
+                        .append("foo", new BsonDocument(INT_COL_LABEL, new BsonInt64(1L << 32)));
+        mockResultSet =
+                new MongoResultSet(
+                        mongoStatement,
+                        new BsonExplicitCursor(Arrays.asList(row)),
+                        schema,
+                        null,
+                        false,
+                        UuidRepresentation.STANDARD);
+        MongoColumnarResultSet columnar = mockResultSet.unwrap(MongoColumnarResultSet.class);
+
+        assertEquals(1, columnar.nextBatch(1));
+        long[] longs = new long[1];
+        columnar.getLongs(INT_COL, longs, new BitSet());
+        assertEquals(1L << 32, longs[0]);
+        // The value is not truncated.
+        assertThrows(
+                SQLException.class, () -> columnar.getInts(INT_COL, new int[1], new BitSet()));
+        assertThrows(SQLException.class, () -> mockResultSet.getInt(INT_COL));
+    }
+
+    @Test
+    void testScrollableResultSet() throws Exception {
+        List<BsonDocument> rows = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            rows.add(
+                    new BsonDocument(
+                            "foo", new BsonDocument(INT_COL_LABEL, new BsonInt32(i * 10))));
+        }
+        AtomicBoolean cursorClosed = new AtomicBoolean(false);
+        BsonExplicitCursor scrollCursor =
+                new BsonExplicitCursor(rows) {
+                    @Override
+                    public void close() {
+                        cursorClosed.set(true);
+                    }
+                };
+        // A memory limit of one byte spills every row to disk.
+        MongoScrollableResultSet scrollable =
+                new MongoScrollableResultSet(
+                        mongoStatement,
+                        scrollCursor,
+                        schema,
+                        null,
+                        false,
+                        UuidRepresentation.STANDARD,
+                        1);
+
+        assertEquals(ResultSet.TYPE_SCROLL_INSENSITIVE, scrollable.getType());
+        assertTrue(scrollable.isBeforeFirst());
+        assertTrue(scrollable.next());
+        assertTrue(scrollable.isFirst());
+        assertEquals(10, scrollable.getInt(INT_COL));
+        assertTrue(scrollable.absolute(3));
+        assertEquals(30, scrollable.getInt(INT_COL));
+        assertFalse(cursorClosed.get());
+        assertTrue(scrollable.previous());
+        assertEquals(20, scrollable.getInt(INT_COL));
+        assertTrue(scrollable.last());
+        assertTrue(scrollable.isLast());
+        assertEquals(50, scrollable.getInt(INT_COL));
+        assertTrue(cursorClosed.get());
+        assertEquals(5, scrollable.getRow());
+
+        assertTrue(scrollable.absolute(-2));
+        assertEquals(40, scrollable.getInt(INT_COL));
+        assertTrue(scrollable.relative(-3));
+        assertEquals(10, scrollable.getInt(INT_COL));
+        assertFalse(scrollable.relative(-1));
+        assertTrue(scrollable.isBeforeFirst());
+        assertEquals(0, scrollable.getRow());
+        assertThrows(SQLException.class, () -> scrollable.getInt(INT_COL));
+
+        scrollable.afterLast();
+        assertTrue(scrollable.isAfterLast());
+        assertEquals(0, scrollable.getRow());
+        assertFalse(scrollable.next());
+        assertFalse(scrollable.absolute(10));
+        assertEquals(0, scrollable.getRow());
+        assertTrue(scrollable.previous());
+        assertEquals(50, scrollable.getInt(INT_COL));
+
+        // Rescan the result set from the start.
+        scrollable.beforeFirst();
+        int count = 0;
+        while (scrollable.next()) {
+            count++;
+            assertEquals(count * 10, scrollable.getInt(INT_COL));
+        }
+        assertEquals(5, count);
+
+        assertTrue(scrollable.first());
+        assertEquals(10, scrollable.getInt(INT_COL));
+        scrollable.close();
+        assertThrows(SQLException.class, () -> scrollable.first());
+    }
+
     @Test
     void testEmptyResultSet() throws SQLException {
 
@@ -1361,4 +1738,51 @@ class MongoResultSetTest extends MongoMock {
                         () -> mongoResultSetWithMockMetaData.findColumn(DOUBLE_COL_LABEL));
         assertEquals("Failed to find column. Root cause: exception", e.getMessage());
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testCloseWhileNextWaits() throws Exception {
+        CountDownLatch getMoreStarted = new CountDownLatch(1);
+        CountDownLatch getMoreDone = new CountDownLatch(1);
+        MongoCursor<BsonDocument> slow = mock(MongoCursor.class);
+        when(slow.hasNext())
+                .thenAnswer(
+                        invocation -> {
+                            getMoreStarted.countDown();
+                            getMoreDone.await();
+                            return false;
+                        });
+        MongoResultSet rs =
+                new MongoResultSet(
+                        mongoStatement,
+                        new PrefetchingCursor<>(slow),
+                        schema,
+                        null,
+                        false,
+                        UuidRepresentation.STANDARD);
+
+        try {
+            CompletableFuture<Boolean> consumer =
+                    CompletableFuture.supplyAsync(
+                            () -> {
+                                try {
+                                    return rs.next();
+                                } catch (SQLException e) {
+                                    throw new RuntimeException(e);
+                                }
+                            });
+            assertTrue(getMoreStarted.await(5, TimeUnit.SECONDS));
+            // Give the consumer time to block on the prefetched batches.
+            Thread.sleep(100);
+            assertFalse(consumer.isDone());
+
+            // As cancel() does from another thread.
+            rs.close();
+            ExecutionException e =
+                    assertThrows(ExecutionException.class, () -> consumer.get(5, TimeUnit.SECONDS));
+            assertEquals("MongoResultSet is closed.", e.getCause().getCause().getMessage());
+        } finally {
+            getMoreDone.countDown();
+        }
+    }
 }
@@ -25,17 +25,52 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.jdbc.mongosql.ParameterizedQuery;
+import java.math.BigDecimal;
+import java.sql.BatchUpdateException;
+import java.sql.Date;
+import java.sql.ParameterMetaData;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -221,7 +256,518 @@ class MongoStatementTest extends MongoMock {
 
     @Test
     void testSetMaxRows() throws SQLException {
-        testNoop(() -> mongoStatement.setMaxRows(0));
+        assertThrows(SQLException.class, () -> mongoStatement.setMaxRows(-1));
+
+        mongoStatement.setMaxRows(10);
+        assertEquals(10, mongoStatement.getMaxRows());
+        assertEquals(10, mongoStatement.getLargeMaxRows());
+        mongoStatement.setLargeMaxRows(5_000_000_000L);
+        assertEquals(Integer.MAX_VALUE, mongoStatement.getMaxRows());
+        assertEquals(5_000_000_000L, mongoStatement.getLargeMaxRows());
+
+        testExceptionAfterConnectionClosed(() -> mongoStatement.setMaxRows(0));
+        testExceptionAfterConnectionClosed(() -> mongoStatement.setLargeMaxRows(0));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testMaxRowsLimitsTheQuery() throws SQLException {
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenReturn(generateSchema());
+        // The cursor has more rows than the limit, as if the server ignored it.
+        when(mongoCursor.hasNext()).thenReturn(true);
+        when(mongoCursor.next()).thenAnswer(invocation -> generateRow());
+
+        mongoStatement.setMaxRows(2);
+        ResultSet rs = mongoStatement.executeQuery("select * from foo");
+
+        ArgumentCaptor<List<BsonDocument>> pipeline = ArgumentCaptor.forClass(List.class);
+        verify(mongoDatabase, atLeastOnce())
+                .aggregate(pipeline.capture(), eq(BsonDocument.class));
+        assertEquals(2, pipeline.getValue().size());
+        assertEquals(
+                new BsonDocument("$limit", new BsonInt64(2)), pipeline.getValue().get(1));
+
+        assertTrue(rs.next());
+        assertTrue(rs.next());
+        assertTrue(rs.isLast());
+        assertFalse(rs.next());
+    }
+
+    @Test
+    void testPreparedStatementBindsParameters() throws SQLException {
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenReturn(generateSchema());
+        when(mongoCursor.hasNext()).thenReturn(false);
+
+        MongoPreparedStatement ps =
+                new MongoPreparedStatement(
+                        "select * from foo where a = ? and b - ? > 0 and c = '?' and d = ?",
+                        mongoStatement);
+        assertEquals(3, ps.getParameterMetaData().getParameterCount());
+        ps.setString(1, "it's");
+        ps.setInt(2, -1);
+        assertThrows(SQLException.class, ps::executeQuery);
+        ps.setNull(3, Types.DOUBLE);
+        assertThrows(SQLException.class, () -> ps.setLong(4, 1));
+        ps.executeQuery();
+
+        ArgumentCaptor<List<BsonDocument>> pipeline = ArgumentCaptor.forClass(List.class);
+        verify(mongoDatabase, atLeastOnce())
+                .aggregate(pipeline.capture(), eq(BsonDocument.class));
+        assertEquals(
+                "select * from foo where a = 'it''s' and b - CAST('-1' AS INT) > 0 and c = '?'"
+                        + " and d = NULL",
+                pipeline.getValue()
+                        .get(0)
+                        .getDocument("$sql")
+                        .getString("statement")
+                        .getValue());
+
+        ParameterMetaData metaData = ps.getParameterMetaData();
+        assertEquals(Types.VARCHAR, metaData.getParameterType(1));
+        assertEquals(Types.INTEGER, metaData.getParameterType(2));
+        assertEquals(Types.DOUBLE, metaData.getParameterType(3));
+        ps.clearParameters();
+        assertEquals(Types.OTHER, ps.getParameterMetaData().getParameterType(1));
+        assertThrows(SQLException.class, ps::executeQuery);
+    }
+
+    @Test
+    void testPreparedStatementConvertsToTheTargetType() throws SQLException {
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenReturn(generateSchema());
+        when(mongoCursor.hasNext()).thenReturn(false);
+
+        MongoPreparedStatement ps =
+                new MongoPreparedStatement(
+                        "select * from foo where a = ? and b = ? and c = ? and d = ?",
+                        mongoStatement);
+        ps.setObject(1, "12", Types.INTEGER);
+        ps.setObject(2, new BigDecimal("1.235"), Types.DECIMAL, 2);
+        ps.setObject(3, 1, Types.VARCHAR);
+        ps.setObject(4, "2024-02-03", Types.DATE);
+        ps.executeQuery();
+
+        ArgumentCaptor<List<BsonDocument>> pipeline = ArgumentCaptor.forClass(List.class);
+        verify(mongoDatabase, atLeastOnce())
+                .aggregate(pipeline.capture(), eq(BsonDocument.class));
+        assertEquals(
+                "select * from foo where a = CAST('12' AS INT) and b = CAST('1.24' AS DECIMAL)"
+                        + " and c = '1'"
+                        + " and d = CAST('2024-02-03T00:00:00Z' AS TIMESTAMP)",
+                pipeline.getValue()
+                        .get(0)
+                        .getDocument("$sql")
+                        .getString("statement")
+                        .getValue());
+
+        ParameterMetaData metaData = ps.getParameterMetaData();
+        assertEquals(Types.INTEGER, metaData.getParameterType(1));
+        assertEquals(Types.DECIMAL, metaData.getParameterType(2));
+        assertEquals(Types.VARCHAR, metaData.getParameterType(3));
+        assertEquals(Types.DATE, metaData.getParameterType(4));
+
+        assertThrows(SQLException.class, () -> ps.setObject(1, "twelve", Types.INTEGER));
+        assertThrows(SQLException.class, () -> ps.setObject(1, 1.5, Types.INTEGER));
+        assertThrows(
+                SQLFeatureNotSupportedException.class,
+                () -> ps.setObject(1, new Object(), Types.INTEGER));
+        assertThrows(
+                SQLFeatureNotSupportedException.class, () -> ps.setObject(1, 1, Types.BLOB));
+    }
+
+    @Test
+    void testPreparedStatementBindsTemporalValuesInUtc() throws SQLException {
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenReturn(generateSchema());
+        when(mongoCursor.hasNext()).thenReturn(false);
+
+        MongoPreparedStatement ps =
+                new MongoPreparedStatement(
+                        "select * from foo where a = ? and b = ? and c = ? and d = ? and e = ?",
+                        mongoStatement);
+        // The values with an instant are bound as is, whatever the default time zone.
+        ps.setTimestamp(1, new Timestamp(1_706_918_400_123L));
+        ps.setDate(2, new Date(0));
+        // The calendar gives the time zone of the date and time of the value.
+        ps.setTimestamp(
+                3,
+                Timestamp.valueOf("2024-02-03 10:00:00"),
+                Calendar.getInstance(TimeZone.getTimeZone("GMT+02:00")));
+        // The values without a time zone are read in UTC, as BSON dates are.
+        ps.setObject(4, LocalDate.of(2024, 2, 3));
+        ps.setObject(5, LocalDateTime.of(2024, 2, 3, 10, 0));
+        ps.executeQuery();
+
+        ArgumentCaptor<List<BsonDocument>> pipeline = ArgumentCaptor.forClass(List.class);
+        verify(mongoDatabase, atLeastOnce())
+                .aggregate(pipeline.capture(), eq(BsonDocument.class));
+        assertEquals(
+                "select * from foo where a = CAST('2024-02-03T00:00:00.123Z' AS TIMESTAMP)"
+                        + " and b = CAST('1970-01-01T00:00:00Z' AS TIMESTAMP)"
+                        + " and c = CAST('2024-02-03T08:00:00Z' AS TIMESTAMP)"
+                        + " and d = CAST('2024-02-03T00:00:00Z' AS TIMESTAMP)"
+                        + " and e = CAST('2024-02-03T10:00:00Z' AS TIMESTAMP)",
+                pipeline.getValue()
+                        .get(0)
+                        .getDocument("$sql")
+                        .getString("statement")
+                        .getValue());
+    }
+
+    private static String boundSql(MongoPreparedStatement ps) throws SQLException {
+        clearInvocations(mongoDatabase);
+        ps.executeQuery();
+        ArgumentCaptor<List<BsonDocument>> pipeline = ArgumentCaptor.forClass(List.class);
+        verify(mongoDatabase).aggregate(pipeline.capture(), eq(BsonDocument.class));
+        return pipeline.getValue()
+                .get(0)
+                .getDocument("$sql")
+                .getString("statement")
+                .getValue();
+    }
+
+    @Test
+    void testPreparedStatementValuesShareTheQueryShape() throws SQLException {
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenReturn(generateSchema());
+        when(mongoCursor.hasNext()).thenReturn(false);
+
+        MongoPreparedStatement ps =
+                new MongoPreparedStatement(
+                        "select * from foo where a = ? and b = ? and c = ? and d = ? and e = ?"
+                                + " limit ?",
+                        mongoStatement);
+        ps.setString(1, "x");
+        ps.setInt(2, 1);
+        ps.setLong(3, -2);
+        ps.setDouble(4, 1.5);
+        ps.setTimestamp(5, new Timestamp(0));
+        ps.setInt(6, 10);
+        String first = boundSql(ps);
+        // LIMIT only takes an integer literal.
+        assertEquals(
+                "select * from foo where a = 'x' and b = CAST('1' AS INT)"
+                        + " and c = CAST('-2' AS BIGINT) and d = CAST('1.5' AS DOUBLE)"
+                        + " and e = CAST('1970-01-01T00:00:00Z' AS TIMESTAMP) limit 10",
+                first);
+
+        ps.setString(1, "y");
+        ps.setInt(2, 3);
+        ps.setLong(3, 4);
+        ps.setDouble(4, 1e20);
+        ps.setTimestamp(5, new Timestamp(1_706_918_400_123L));
+        String second = boundSql(ps);
+
+        ParameterizedQuery firstQuery = ParameterizedQuery.parse(first);
+        ParameterizedQuery secondQuery = ParameterizedQuery.parse(second);
+        assertEquals(firstQuery.getShape(), secondQuery.getShape());
+        assertEquals(
+                Arrays.asList("y", "3", "4", "100000000000000000000", "2024-02-03T00:00:00.123Z"),
+                secondQuery.getLiterals());
+    }
+
+    @Test
+    void testPreparedStatementStringsAreSingleLiterals() throws SQLException {
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenReturn(generateSchema());
+        when(mongoCursor.hasNext()).thenReturn(false);
+
+        MongoPreparedStatement ps =
+                new MongoPreparedStatement(
+                        "select * from foo where a = ? /* ? */ and \"b?\" = ?", mongoStatement);
+        for (String value :
+                Arrays.asList(
+                        "' or '1' = '1",
+                        "\\' or 1 = 1 --",
+                        "\\",
+                        "'') or (''",
+                        "? */ or /* ?",
+                        "-- ?\n or 1 = 1",
+                        "$field")) {
+            ps.setString(1, value);
+            ps.setString(2, value);
+            String sql = boundSql(ps);
+            // Each value is read back as a single string literal, and leaves the query unchanged.
+            ParameterizedQuery query = ParameterizedQuery.parse(sql);
+            if (value.startsWith("$")) {
+                assertNull(query);
+            } else {
+                assertEquals(Arrays.asList(value, value), query.getLiterals());
+                assertEquals(
+                        "select * from foo where a = '__mongodb_jdbc_literal_0__' /* ? */"
+                                + " and \"b?\" = '__mongodb_jdbc_literal_1__'",
+                        query.getShape());
+            }
+            assertTrue(ParameterizedQuery.findParameterMarkers(sql).isEmpty());
+        }
+    }
+
+    @Test
+    void testPreparedStatementMetaDataDoesNotRunTheQuery() throws SQLException {
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenReturn(generateSchema());
+        clearInvocations(mongoDatabase);
+
+        MongoPreparedStatement ps =
+                new MongoPreparedStatement("select * from foo where a = ?", mongoStatement);
+        ResultSetMetaData metaData = ps.getMetaData();
+        assertEquals(12, metaData.getColumnCount());
+
+        verify(mongoDatabase, never()).aggregate(any(), eq(BsonDocument.class));
+        ArgumentCaptor<BsonDocument> command = ArgumentCaptor.forClass(BsonDocument.class);
+        verify(mongoDatabase).runCommand(command.capture(), eq(MongoJsonSchemaResult.class));
+        // The unbound parameter does not change the columns.
+        assertEquals(
+                "select * from foo where a = NULL",
+                command.getValue().getString("query").getValue());
+    }
+
+    @Test
+    void testPreparedStatementMetaDataWithUnboundLimit() throws SQLException {
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenReturn(generateSchema());
+        clearInvocations(mongoDatabase);
+
+        MongoPreparedStatement ps =
+                new MongoPreparedStatement(
+                        "select * from foo where a = ? limit ? offset\n?", mongoStatement);
+        ps.getMetaData();
+
+        ArgumentCaptor<BsonDocument> command = ArgumentCaptor.forClass(BsonDocument.class);
+        verify(mongoDatabase).runCommand(command.capture(), eq(MongoJsonSchemaResult.class));
+        // LIMIT and OFFSET do not take NULL.
+        assertEquals(
+                "select * from foo where a = NULL limit 1 offset\n0",
+                command.getValue().getString("query").getValue());
+    }
+
+    @Test
+    void testCancelPreparedStatementMetaData() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenAnswer(
+                        invocation -> {
+                            started.countDown();
+                            try {
+                                Thread.sleep(60000);
+                            } catch (InterruptedException e) {
+                                throw new MongoInterruptedException("Interrupted", e);
+                            }
+                            return generateSchema();
+                        });
+        Thread canceller =
+                new Thread(
+                        () -> {
+                            try {
+                                started.await();
+                                mongoStatement.cancel();
+                            } catch (InterruptedException | SQLException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        canceller.start();
+
+        MongoPreparedStatement ps =
+                new MongoPreparedStatement("select * from foo where b = ?", mongoStatement);
+        SQLException e = assertThrows(SQLException.class, ps::getMetaData);
+        assertEquals("HY008", e.getSQLState());
+        assertFalse(Thread.currentThread().isInterrupted());
+        canceller.join();
+    }
+
+    @Test
+    void testResultSchemaIsCached() throws SQLException {
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenReturn(generateSchema());
+        when(mongoCursor.hasNext()).thenReturn(false);
+        clearInvocations(mongoDatabase);
+
+        mongoStatement.executeQuery("select * from cached");
+        mongoStatement.executeQuery("select * from cached");
+
+        verify(mongoDatabase, times(2)).aggregate(any(), eq(BsonDocument.class));
+        verify(mongoDatabase, times(1)).runCommand(any(), eq(MongoJsonSchemaResult.class));
+    }
+
+    @Test
+    void testCancel() throws Exception {
+        // Nothing to cancel.
+        mongoStatement.cancel();
+
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenReturn(generateSchema());
+        CountDownLatch started = new CountDownLatch(1);
+        when(aggregateIterable.cursor())
+                .thenAnswer(
+                        invocation -> {
+                            started.countDown();
+                            try {
+                                Thread.sleep(60000);
+                            } catch (InterruptedException e) {
+                                throw new MongoInterruptedException("Interrupted", e);
+                            }
+                            return mongoCursor;
+                        });
+        Thread canceller =
+                new Thread(
+                        () -> {
+                            try {
+                                started.await();
+                                mongoStatement.cancel();
+                            } catch (InterruptedException | SQLException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        canceller.start();
+
+        SQLException e =
+                assertThrows(
+                        SQLException.class, () -> mongoStatement.executeQuery("select * from foo"));
+        assertEquals("HY008", e.getSQLState());
+        assertFalse(Thread.currentThread().isInterrupted());
+        canceller.join();
+        verify(aggregateIterable, atLeastOnce()).comment(startsWith("mongodb-jdbc-"));
+    }
+
+    @Test
+    void testCancelWhileWaitingForTheResultSchema() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenAnswer(
+                        invocation -> {
+                            started.countDown();
+                            release.await();
+                            return generateSchema();
+                        });
+        Thread canceller =
+                new Thread(
+                        () -> {
+                            try {
+                                started.await();
+                                mongoStatement.cancel();
+                            } catch (InterruptedException | SQLException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        canceller.start();
+
+        try {
+            SQLException e =
+                    assertThrows(
+                            SQLException.class,
+                            () -> mongoStatement.executeQuery("select * from awaited"));
+            assertEquals("HY008", e.getSQLState());
+            assertFalse(Thread.currentThread().isInterrupted());
+        } finally {
+            release.countDown();
+            canceller.join();
+        }
+    }
+
+    @Test
+    void testCancelClosesTheResultSet() throws SQLException {
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenReturn(generateSchema());
+        when(mongoCursor.hasNext()).thenReturn(true);
+        when(mongoCursor.next()).thenAnswer(invocation -> generateRow());
+
+        ResultSet rs = mongoStatement.executeQuery("select * from foo");
+        assertTrue(rs.next());
+        mongoStatement.cancel();
+        assertTrue(rs.isClosed());
+        assertThrows(SQLException.class, rs::next);
+    }
+
+    @Test
+    void testExecuteQueryAsync() throws Exception {
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenReturn(generateSchema());
+        AtomicInteger rowCnt = new AtomicInteger();
+        when(mongoCursor.hasNext()).thenAnswer(invocation -> rowCnt.get() < 1);
+        when(mongoCursor.next())
+                .thenAnswer(
+                        invocation -> {
+                            rowCnt.incrementAndGet();
+                            return generateRow();
+                        });
+
+        ResultSet rs = mongoStatement.executeQueryAsync("select * from foo").get();
+        assertTrue(rs.next());
+        assertEquals(1, rs.getInt(1));
+        assertFalse(rs.next());
+
+        mongoStatement.close();
+        ExecutionException e =
+                assertThrows(
+                        ExecutionException.class,
+                        () -> mongoStatement.executeQueryAsync("select * from foo").get());
+        assertTrue(e.getCause() instanceof SQLException);
+    }
+
+    @Test
+    void testCancelAsyncQueryBeforeItStarts() throws Exception {
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenReturn(generateSchema());
+        when(mongoCursor.hasNext()).thenReturn(false);
+        mongoStatement.executeQuery("select * from queued").close();
+        clearInvocations(mongoDatabase);
+
+        List<Runnable> tasks = new ArrayList<>();
+        CompletableFuture<ResultSet> cancelledFuture =
+                mongoStatement.executeQueryAsync("select * from queued", tasks::add);
+        assertTrue(cancelledFuture.cancel(true));
+        tasks.get(0).run();
+        // Neither the query ran, nor were the operations of the previous query killed.
+        verify(mongoDatabase, never()).aggregate(any(), eq(BsonDocument.class));
+
+        CompletableFuture<ResultSet> future =
+                mongoStatement.executeQueryAsync("select * from queued", tasks::add);
+        mongoStatement.cancel();
+        tasks.get(1).run();
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertEquals("HY008", ((SQLException) e.getCause()).getSQLState());
+        verify(mongoDatabase, never()).aggregate(any(), eq(BsonDocument.class));
+
+        // The cancellation does not outlive the asynchronous query.
+        mongoStatement.executeQuery("select * from queued");
+        verify(mongoDatabase).aggregate(any(), eq(BsonDocument.class));
+    }
+
+    @Test
+    void testExplain() throws SQLException {
+        BsonDocument serverExplain = new BsonDocument("ok", new BsonInt32(1));
+        when(aggregateIterable.explain(eq(BsonDocument.class), eq(ExplainVerbosity.QUERY_PLANNER)))
+                .thenReturn(serverExplain);
+        clearInvocations(aggregateIterable);
+
+        mongoStatement.setMaxRows(10);
+        MongoExplainResult explain =
+                mongoStatement.explain("select * from foo", ExplainVerbosity.QUERY_PLANNER);
+        assertEquals(serverExplain, explain.getServerExplain());
+        assertNull(explain.getTargetCollection());
+        // On Atlas Data Federation the pipeline is the $sql stage, limited to the maximum rows.
+        assertEquals(2, explain.getPipeline().size());
+        assertEquals(
+                "select * from foo",
+                explain.getPipeline()
+                        .get(0)
+                        .getDocument("$sql")
+                        .getString("statement")
+                        .getValue());
+        assertEquals(
+                new BsonDocument("$limit", new BsonInt64(10)), explain.getPipeline().get(1));
+        assertTrue(explain.getNamespaces().isEmpty());
+        assertNull(explain.getCatalog());
+        assertTrue(explain.getPhaseTimings().containsKey(MongoExplainResult.EXPLAIN_PHASE));
+        assertEquals(serverExplain, explain.toBsonDocument().getDocument("explain"));
+        // The query is not run.
+        verify(aggregateIterable, never()).cursor();
+
+        testExceptionAfterConnectionClosed(
+                () -> mongoStatement.explain("select * from foo", ExplainVerbosity.QUERY_PLANNER));
     }
 
     @Test
@@ -239,6 +785,43 @@ class MongoStatementTest extends MongoMock {
         testExceptionAfterConnectionClosed(() -> mongoStatement.getQueryTimeout());
     }
 
+    @Test
+    void testQueryTimeoutBoundsEveryCommand() throws SQLException {
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenReturn(generateSchema());
+        clearInvocations(mongoDatabase, aggregateIterable);
+
+        mongoStatement.setQueryTimeout(10);
+        mongoStatement.executeQuery("select * from query_timeout");
+
+        ArgumentCaptor<BsonDocument> command = ArgumentCaptor.forClass(BsonDocument.class);
+        verify(mongoDatabase, atLeastOnce())
+                .runCommand(command.capture(), eq(MongoJsonSchemaResult.class));
+        long schemaMaxTimeMS = command.getValue().getInt64("maxTimeMS").getValue();
+        assertTrue(schemaMaxTimeMS > 0 && schemaMaxTimeMS <= 10000);
+        verify(aggregateIterable, atLeastOnce())
+                .maxTime(
+                        longThat(ms -> ms > 0 && ms <= schemaMaxTimeMS),
+                        eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testQueryTimeoutCoversTheResultSchemaRequest() throws SQLException {
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenAnswer(
+                        invocation -> {
+                            Thread.sleep(3000);
+                            return generateSchema();
+                        });
+
+        mongoStatement.setQueryTimeout(1);
+        long start = System.nanoTime();
+        assertThrows(
+                SQLTimeoutException.class,
+                () -> mongoStatement.executeQuery("select * from query_timeout_expired"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 3000);
+    }
+
     @Test
     void testGetWarnings() throws SQLException {
         assertEquals(null, mongoStatement.getWarnings());
@@ -326,6 +909,55 @@ class MongoStatementTest extends MongoMock {
                 () -> mongoStatement.getMoreResults(CLOSE_CURRENT_RESULT));
     }
 
+    @Test
+    void testExecuteBatch() throws SQLException {
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenReturn(generateSchema());
+
+        mongoStatement.addBatch("select * from batch_a");
+        mongoStatement.addBatch("select * from batch_b");
+        mongoStatement.addBatch("select * from batch_c");
+        int[] updateCounts = mongoStatement.executeBatch();
+        assertEquals(3, updateCounts.length);
+        for (int updateCount : updateCounts) {
+            assertEquals(Statement.SUCCESS_NO_INFO, updateCount);
+        }
+
+        ResultSet first = mongoStatement.getResultSet();
+        assertFalse(first.isClosed());
+        assertTrue(mongoStatement.getMoreResults());
+        assertTrue(first.isClosed());
+        ResultSet second = mongoStatement.getResultSet();
+        assertFalse(second.isClosed());
+        assertTrue(mongoStatement.getMoreResults());
+        assertFalse(mongoStatement.getMoreResults());
+        assertTrue(second.isClosed());
+        assertNull(mongoStatement.getResultSet());
+
+        // The batch is cleared by executeBatch.
+        assertEquals(0, mongoStatement.executeBatch().length);
+
+        testExceptionAfterConnectionClosed(() -> mongoStatement.addBatch("select * from foo"));
+        testExceptionAfterConnectionClosed(() -> mongoStatement.executeBatch());
+    }
+
+    @Test
+    void testExecuteBatchFailure() throws SQLException {
+        when(mongoDatabase.runCommand(any(), eq(MongoJsonSchemaResult.class)))
+                .thenThrow(new MongoExecutionTimeoutException(50, "operation exceeded time limit"));
+
+        mongoStatement.addBatch("select * from batch_failure_a");
+        mongoStatement.addBatch("select * from batch_failure_b");
+        BatchUpdateException e =
+                assertThrows(BatchUpdateException.class, () -> mongoStatement.executeBatch());
+        assertTrue(e.getCause() instanceof SQLTimeoutException);
+        assertEquals(2, e.getUpdateCounts().length);
+        for (int updateCount : e.getUpdateCounts()) {
+            assertEquals(Statement.EXECUTE_FAILED, updateCount);
+        }
+        assertNull(mongoStatement.getResultSet());
+    }
+
     @Test
     void testSetPoolable() throws SQLException {
         testNoop(() -> mongoStatement.setPoolable(true));
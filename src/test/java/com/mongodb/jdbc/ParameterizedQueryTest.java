@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mongodb.jdbc.mongosql.ParameterizedQuery;
+import com.mongodb.jdbc.mongosql.TranslateResult;
+import java.util.Arrays;
+import java.util.Collections;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+class ParameterizedQueryTest {
+
+    private static TranslateResult translation(String... stages) {
+        BsonDocument[] pipeline = new BsonDocument[stages.length];
+        for (int i = 0; i < stages.length; i++) {
+            pipeline[i] = BsonDocument.parse(stages[i]);
+        }
+        return new TranslateResult(
+                "db", "coll", Arrays.asList(pipeline), null, Collections.emptyList());
+    }
+
+    @Test
+    void testParse() {
+        ParameterizedQuery query =
+                ParameterizedQuery.parse(
+                        "SELECT \"it's\" FROM coll -- 'comment'\n"
+                                + "WHERE a = 'x''y' /* 'comment' */ AND b = '$b' AND c = 'z'");
+        assertNotNull(query);
+        assertEquals(
+                "SELECT \"it's\" FROM coll -- 'comment'\n"
+                        + "WHERE a = '__mongodb_jdbc_literal_0__' /* 'comment' */"
+                        + " AND b = '$b' AND c = '__mongodb_jdbc_literal_1__'",
+                query.getShape());
+        assertEquals(Arrays.asList("x'y", "z"), query.getLiterals());
+
+        // Queries with the same shape.
+        assertEquals(
+                ParameterizedQuery.parse("SELECT * FROM coll WHERE a = 'x'").getShape(),
+                ParameterizedQuery.parse("SELECT * FROM coll WHERE a = 'y'").getShape());
+    }
+
+    @Test
+    void testNothingToParameterize() {
+        assertNull(ParameterizedQuery.parse("SELECT * FROM coll WHERE a = 1"));
+        assertNull(ParameterizedQuery.parse("SELECT * FROM coll WHERE a = 'unterminated"));
+        assertNull(ParameterizedQuery.parse("SELECT '__mongodb_jdbc_literal_0__' FROM coll"));
+    }
+
+    @Test
+    void testFindParameterMarkers() {
+        String sql = "SELECT \"a?\" FROM coll -- ?\nWHERE a = ? /* ? */ AND b = '?''?' AND c = ?";
+        assertEquals(
+                Arrays.asList(sql.indexOf("a = ?") + 4, sql.lastIndexOf('?')),
+                ParameterizedQuery.findParameterMarkers(sql));
+    }
+
+    @Test
+    void testFindParameterMarkersLexerEdges() {
+        // A backslash does not escape the quote closing a string literal.
+        String sql = "SELECT * FROM coll WHERE a = '\\' AND b = ?";
+        assertEquals(
+                Collections.singletonList(sql.lastIndexOf('?')),
+                ParameterizedQuery.findParameterMarkers(sql));
+        assertEquals(
+                Collections.singletonList("\\"), ParameterizedQuery.parse(sql).getLiterals());
+
+        // Doubled quotes inside quoted identifiers.
+        sql = "SELECT `a``?` FROM \"b\"\"?\" WHERE c = ?";
+        assertEquals(
+                Collections.singletonList(sql.lastIndexOf('?')),
+                ParameterizedQuery.findParameterMarkers(sql));
+
+        // Comments do not nest, the first */ ends the comment.
+        sql = "SELECT * FROM coll /* /* ? */ WHERE a = ? -- ?";
+        assertEquals(
+                Collections.singletonList(sql.indexOf("a = ?") + 4),
+                ParameterizedQuery.findParameterMarkers(sql));
+
+        // Unterminated literals, identifiers and comments hide the rest of the query.
+        assertTrue(ParameterizedQuery.findParameterMarkers("SELECT 'a ?").isEmpty());
+        assertTrue(ParameterizedQuery.findParameterMarkers("SELECT \"a ?").isEmpty());
+        assertTrue(ParameterizedQuery.findParameterMarkers("SELECT /* a ?").isEmpty());
+    }
+
+    @Test
+    void testBind() {
+        ParameterizedQuery query =
+                ParameterizedQuery.parse("SELECT * FROM coll WHERE a = 'x' AND b = 'y'");
+        TranslateResult shapeTranslation =
+                translation(
+                        "{$match: {$expr: {$and: [{$eq: ['$a', {$literal: "
+                                + "'__mongodb_jdbc_literal_0__'}]}, {$eq: ['$b', "
+                                + "'__mongodb_jdbc_literal_1__']}]}}}",
+                        "{$project: {_id: 0}}");
+
+        TranslateResult bound = query.bind(shapeTranslation);
+        assertNotNull(bound);
+        assertEquals(
+                BsonDocument.parse(
+                        "{$match: {$expr: {$and: [{$eq: ['$a', {$literal: 'x'}]},"
+                                + " {$eq: ['$b', 'y']}]}}}"),
+                bound.pipeline.get(0));
+        assertEquals(shapeTranslation.pipeline.get(1), bound.pipeline.get(1));
+        assertEquals("coll", bound.targetCollection);
+        // The cached translation of the shape is left unchanged.
+        assertTrue(
+                shapeTranslation.pipeline.get(0).toJson().contains("__mongodb_jdbc_literal_0__"));
+    }
+
+    @Test
+    void testBindDoesNotSubstituteFieldPaths() {
+        ParameterizedQuery query =
+                ParameterizedQuery.parse(
+                        "SELECT * FROM coll WHERE a = '$b' AND c = '$$ROOT' AND d = 'x'");
+        assertNotNull(query);
+        // Literals read as field paths or variables are translated as part of the shape.
+        assertEquals(
+                "SELECT * FROM coll WHERE a = '$b' AND c = '$$ROOT'"
+                        + " AND d = '__mongodb_jdbc_literal_0__'",
+                query.getShape());
+        assertEquals(Collections.singletonList("x"), query.getLiterals());
+
+        TranslateResult bound =
+                query.bind(
+                        translation(
+                                "{$match: {$expr: {$and: [{$eq: ['$a', {$literal: '$b'}]},"
+                                        + " {$eq: ['$c', {$literal: '$$ROOT'}]},"
+                                        + " {$eq: ['$d', '__mongodb_jdbc_literal_0__']}]}}}"));
+        assertNotNull(bound);
+        assertEquals(
+                BsonDocument.parse(
+                        "{$match: {$expr: {$and: [{$eq: ['$a', {$literal: '$b'}]},"
+                                + " {$eq: ['$c', {$literal: '$$ROOT'}]},"
+                                + " {$eq: ['$d', 'x']}]}}}"),
+                bound.pipeline.get(0));
+
+        // Queries differing by a field path literal do not share a shape.
+        assertNotEquals(
+                ParameterizedQuery.parse("SELECT * FROM coll WHERE a = 'x' AND b = '$b'")
+                        .getShape(),
+                ParameterizedQuery.parse("SELECT * FROM coll WHERE a = 'x' AND b = '$c'")
+                        .getShape());
+    }
+
+    @Test
+    void testBindFailsOnTransformedLiterals() {
+        ParameterizedQuery query = ParameterizedQuery.parse("SELECT * FROM coll WHERE a LIKE 'x%'");
+        // The LIKE pattern is turned into a regular expression.
+        assertNull(
+                query.bind(
+                        translation(
+                                "{$match: {$expr: {$regexMatch: {input: '$a', "
+                                        + "regex: '^__mongodb_jdbc_literal_0__$'}}}}")));
+        // The literal is folded away.
+        assertNull(query.bind(translation("{$match: {$expr: true}}")));
+    }
+}
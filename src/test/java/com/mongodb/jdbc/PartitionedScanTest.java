@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.junit.jupiter.api.Test;
+
+class PartitionedScanTest {
+
+    private static List<BsonValue> ids(int count) {
+        List<BsonValue> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(new BsonInt32(i));
+        }
+        return ids;
+    }
+
+    @Test
+    void testIsScan() {
+        assertTrue(PartitionedScan.isScan(Collections.emptyList()));
+        assertTrue(
+                PartitionedScan.isScan(
+                        Arrays.asList(
+                                BsonDocument.parse("{\"$match\": {\"a\": 1}}"),
+                                BsonDocument.parse("{\"$project\": {\"foo\": \"$$ROOT\"}}"))));
+        assertFalse(
+                PartitionedScan.isScan(
+                        Arrays.asList(
+                                BsonDocument.parse("{\"$project\": {\"foo\": \"$$ROOT\"}}"),
+                                BsonDocument.parse("{\"$sort\": {\"foo.a\": 1}}"))));
+        assertFalse(
+                PartitionedScan.isScan(
+                        Collections.singletonList(BsonDocument.parse("{\"$limit\": 10}"))));
+        // A text search must stay the first stage.
+        assertFalse(
+                PartitionedScan.isScan(
+                        Collections.singletonList(
+                                BsonDocument.parse(
+                                        "{\"$match\": {\"$and\": [{\"$text\":"
+                                                + " {\"$search\": \"foo\"}}, {\"a\": 1}]}}"))));
+        assertFalse(
+                PartitionedScan.isScan(
+                        Collections.singletonList(
+                                BsonDocument.parse(
+                                        "{\"$geoNear\": {\"near\": [0, 0],"
+                                                + " \"distanceField\": \"d\"}}"))));
+    }
+
+    @Test
+    void testPartitionFilters() {
+        List<BsonDocument> filters = PartitionedScan.partitionFilters(ids(30), 3);
+        assertEquals(
+                Arrays.asList(
+                        BsonDocument.parse("{\"$match\": {\"_id\": {\"$lt\": 10}}}"),
+                        BsonDocument.parse("{\"$match\": {\"_id\": {\"$gte\": 10, \"$lt\": 20}}}"),
+                        BsonDocument.parse("{\"$match\": {\"_id\": {\"$gte\": 20}}}"),
+                        BsonDocument.parse(
+                                "{\"$match\": {\"_id\": {\"$not\": {\"$type\": [\"number\"]}}}}")),
+                filters);
+    }
+
+    @Test
+    void testCollectionsAreNotAlwaysSplit() {
+        // Too few sampled values.
+        assertTrue(PartitionedScan.partitionFilters(ids(2), 3).isEmpty());
+        // _id values of different types cannot be ranged together.
+        List<BsonValue> mixed = ids(30);
+        mixed.add(new BsonString("a"));
+        assertTrue(PartitionedScan.partitionFilters(mixed, 3).isEmpty());
+        // Neither can documents.
+        assertTrue(
+                PartitionedScan.partitionFilters(
+                                Collections.<BsonValue>nCopies(
+                                        30, new BsonDocument("a", new BsonInt32(1))),
+                                3)
+                        .isEmpty());
+    }
+}
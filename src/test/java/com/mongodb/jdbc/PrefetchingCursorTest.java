@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCursor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.junit.jupiter.api.Test;
+
+class PrefetchingCursorTest {
+
+    private static BsonDocument row(int i) {
+        return new BsonDocument("i", new BsonInt32(i));
+    }
+
+    @Test
+    void testRowsKeepTheirOrder() {
+        List<BsonDocument> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            rows.add(row(i));
+        }
+        try (PrefetchingCursor<BsonDocument> cursor =
+                new PrefetchingCursor<>(new BsonExplicitCursor(rows))) {
+            for (int i = 0; i < 1000; i++) {
+                assertTrue(cursor.hasNext());
+                assertEquals(row(i), cursor.next());
+            }
+            assertFalse(cursor.hasNext());
+            assertNull(cursor.tryNext());
+            assertThrows(NoSuchElementException.class, cursor::next);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testErrorsAreRaisedAfterThePrefetchedRows() {
+        MongoCursor<BsonDocument> failing = mock(MongoCursor.class);
+        MongoException error = new MongoException("getMore failed");
+        when(failing.hasNext()).thenReturn(true, true).thenThrow(error);
+        when(failing.next()).thenReturn(row(0), row(1));
+
+        PrefetchingCursor<BsonDocument> cursor = new PrefetchingCursor<>(failing);
+        assertEquals(row(0), cursor.next());
+        assertEquals(row(1), cursor.next());
+        assertSame(error, assertThrows(MongoException.class, cursor::hasNext));
+        // The error is raised again, it does not look like the end of the cursor.
+        assertSame(error, assertThrows(MongoException.class, cursor::next));
+        verify(failing, timeout(5000).atLeastOnce()).close();
+        cursor.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testCloseStopsThePrefetch() {
+        MongoCursor<BsonDocument> endless = mock(MongoCursor.class);
+        when(endless.hasNext()).thenReturn(true);
+        when(endless.next()).thenReturn(row(0));
+
+        PrefetchingCursor<BsonDocument> cursor = new PrefetchingCursor<>(endless, 1);
+        assertEquals(row(0), cursor.next());
+        cursor.close();
+        assertFalse(cursor.hasNext());
+        verify(endless, timeout(5000)).close();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testCloseDoesNotInterruptAGetMore() throws Exception {
+        MongoCursor<BsonDocument> slow = mock(MongoCursor.class);
+        CountDownLatch getMoreStarted = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean(false);
+        when(slow.hasNext())
+                .thenAnswer(
+                        invocation -> {
+                            getMoreStarted.countDown();
+                            try {
+                                Thread.sleep(200);
+                            } catch (InterruptedException e) {
+                                interrupted.set(true);
+                            }
+                            return true;
+                        });
+        when(slow.next()).thenReturn(row(0));
+
+        PrefetchingCursor<BsonDocument> cursor = new PrefetchingCursor<>(slow);
+        assertTrue(getMoreStarted.await(5, TimeUnit.SECONDS));
+        cursor.close();
+        verify(slow, timeout(5000).atLeast(2)).close();
+        assertFalse(interrupted.get());
+    }
+}
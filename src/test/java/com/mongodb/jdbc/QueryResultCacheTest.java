@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.client.MongoCursor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.bson.RawBsonDocument;
+import org.junit.jupiter.api.Test;
+
+class QueryResultCacheTest {
+    private static final String SQL = "select * from foo";
+    private static final RawBsonDocument ROW_1 = RawBsonDocument.parse("{\"a\": 1}");
+    private static final RawBsonDocument ROW_2 = RawBsonDocument.parse("{\"a\": 2}");
+
+    @SuppressWarnings("unchecked")
+    private static MongoCursor<RawBsonDocument> cursor() {
+        MongoCursor<RawBsonDocument> cursor = mock(MongoCursor.class);
+        when(cursor.hasNext()).thenReturn(true, true, false);
+        when(cursor.next()).thenReturn(ROW_1, ROW_2);
+        return cursor;
+    }
+
+    private static List<RawBsonDocument> readAll(MongoCursor<RawBsonDocument> cursor) {
+        List<RawBsonDocument> rows = new ArrayList<>();
+        while (cursor.hasNext()) {
+            rows.add(cursor.next());
+        }
+        return rows;
+    }
+
+    @Test
+    void testNormalize() {
+        assertEquals(SQL, QueryResultCache.normalize("  select *\n\tfrom   foo \n"));
+        // Literals, quoted identifiers and comments are kept as is.
+        assertEquals(
+                "select 'a  b', \"c  d\" from foo -- x  y\n",
+                QueryResultCache.normalize("select 'a  b', \"c  d\"  from foo -- x  y\n"));
+        assertEquals(
+                "select /* it's */ 'a  b' from foo",
+                QueryResultCache.normalize("select  /* it's */ 'a  b' from foo"));
+    }
+
+    @Test
+    void testResultIsCachedOnceReadToTheEnd() {
+        QueryResultCache cache = new QueryResultCache(1024 * 1024, 60);
+        assertNull(cache.get("db", SQL, 0, 1));
+
+        MongoCursor<RawBsonDocument> cursor = cache.record(cursor(), "db", SQL, 0, 1, null, null);
+        assertEquals(Arrays.asList(ROW_1, ROW_2), readAll(cursor));
+
+        QueryResultCache.CachedResult cached = cache.get("db", "select  *  from foo", 0, 1);
+        assertNotNull(cached);
+        assertEquals(Arrays.asList(ROW_1, ROW_2), readAll(cached.cursor()));
+        // The replay cursors are independent.
+        assertEquals(Arrays.asList(ROW_1, ROW_2), readAll(cached.cursor()));
+
+        // A schema change, another database, another query or another row limit miss.
+        assertNull(cache.get("db", SQL, 0, 2));
+        assertNull(cache.get("db2", SQL, 0, 1));
+        assertNull(cache.get("db", "select a from foo", 0, 1));
+        assertNull(cache.get("db", SQL, 10, 1));
+
+        MongoCacheStats stats = cache.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testResultIsCachedOnceReadToTheMaxRows() {
+        QueryResultCache cache = new QueryResultCache(1024 * 1024, 60);
+        MongoCursor<RawBsonDocument> limited = mock(MongoCursor.class);
+        when(limited.hasNext()).thenReturn(true);
+        when(limited.next()).thenReturn(ROW_1, ROW_2);
+
+        // Like a result set with setMaxRows(2), which does not look past the second row.
+        MongoCursor<RawBsonDocument> cursor = cache.record(limited, "db", SQL, 2, 1, null, null);
+        assertTrue(cursor.hasNext());
+        cursor.next();
+        assertNull(cache.get("db", SQL, 2, 1));
+        assertTrue(cursor.hasNext());
+        cursor.next();
+        cursor.close();
+
+        QueryResultCache.CachedResult cached = cache.get("db", SQL, 2, 1);
+        assertNotNull(cached);
+        assertEquals(Arrays.asList(ROW_1, ROW_2), readAll(cached.cursor()));
+        assertEquals(1, cache.getStats().getHitCount());
+    }
+
+    @Test
+    void testResultIsNotCachedWhenClosedEarly() {
+        QueryResultCache cache = new QueryResultCache(1024 * 1024, 60);
+        MongoCursor<RawBsonDocument> cursor = cache.record(cursor(), "db", SQL, 0, 1, null, null);
+        assertTrue(cursor.hasNext());
+        cursor.next();
+        cursor.close();
+        assertNull(cache.get("db", SQL, 0, 1));
+    }
+
+    @Test
+    void testLargeResultIsNotCached() {
+        // A result can use a quarter of the memory limit, less than the size of the two rows.
+        QueryResultCache cache = new QueryResultCache(ROW_1.getByteBuffer().remaining() * 4, 60);
+        MongoCursor<RawBsonDocument> cursor = cache.record(cursor(), "db", SQL, 0, 1, null, null);
+        assertEquals(Arrays.asList(ROW_1, ROW_2), readAll(cursor));
+        assertNull(cache.get("db", SQL, 0, 1));
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.jdbc.mongosql.MongoSQLTranslate;
+import com.mongodb.jdbc.mongosql.SchemaCatalogCache;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SchemaCatalogCacheTest {
+    private static final BsonDocument SCHEMA_A =
+            new BsonDocument("bsonType", new BsonString("object"));
+
+    private MongoDatabase database;
+    private MongoCollection<BsonDocument> schemasCollection;
+    private FindIterable<BsonDocument> find;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        database = mock(MongoDatabase.class);
+        schemasCollection = mock(MongoCollection.class);
+        find = mock(FindIterable.class);
+        when(database.getName()).thenReturn("db");
+        when(database.getCollection(MongoSQLTranslate.SQL_SCHEMAS_COLLECTION, BsonDocument.class))
+                .thenReturn(schemasCollection);
+        when(schemasCollection.find(any(Bson.class))).thenReturn(find);
+        when(find.projection(any())).thenReturn(find);
+        // Only collection "a" has a schema.
+        when(find.into(any()))
+                .thenAnswer(
+                        invocation -> {
+                            List<BsonDocument> docs = invocation.getArgument(0);
+                            docs.add(
+                                    new BsonDocument("_id", new BsonString("a"))
+                                            .append("schema", SCHEMA_A));
+                            return docs;
+                        });
+    }
+
+    @Test
+    void testSchemasAreCachedWithoutChangeStream() {
+        when(schemasCollection.watch()).thenThrow(new MongoException("Not a replica set"));
+        SchemaCatalogCache cache = new SchemaCatalogCache(60);
+
+        Map<String, BsonValue> schemas = cache.getSchemas(database, Arrays.asList("a", "b"));
+        assertEquals(1, schemas.size());
+        assertEquals(SCHEMA_A, schemas.get("a"));
+        // The schema of "a" and the absence of a schema for "b" are both cached.
+        assertEquals(schemas, cache.getSchemas(database, Arrays.asList("a", "b")));
+        verify(find, times(1)).into(any());
+        assertEquals(2, cache.getStats().getHitCount());
+        assertEquals(2, cache.getStats().getMissCount());
+    }
+
+    @Test
+    void testSchemasExpire() {
+        when(schemasCollection.watch()).thenThrow(new MongoException("Not a replica set"));
+        SchemaCatalogCache cache = new SchemaCatalogCache(0);
+
+        cache.getSchemas(database, Arrays.asList("a"));
+        cache.getSchemas(database, Arrays.asList("a"));
+        verify(find, times(2)).into(any());
+    }
+
+    @Test
+    void testVersionChangesWithExpiredSchemas() {
+        when(schemasCollection.watch()).thenThrow(new MongoException("Not a replica set"));
+        SchemaCatalogCache cache = new SchemaCatalogCache(0);
+
+        long version = cache.getVersion(database, Arrays.asList("a"));
+        // The expired schema is reloaded unchanged.
+        assertEquals(version, cache.getVersion(database, Arrays.asList("a")));
+
+        doAnswer(
+                        invocation -> {
+                            List<BsonDocument> docs = invocation.getArgument(0);
+                            docs.add(
+                                    new BsonDocument("_id", new BsonString("a"))
+                                            .append("schema", new BsonDocument()));
+                            return docs;
+                        })
+                .when(find)
+                .into(any());
+        assertNotEquals(version, cache.getVersion(database, Arrays.asList("a")));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testChangeStreamInvalidatesSchemas() throws Exception {
+        ChangeStreamIterable<BsonDocument> changeStream = mock(ChangeStreamIterable.class);
+        MongoChangeStreamCursor<ChangeStreamDocument<BsonDocument>> cursor =
+                mock(MongoChangeStreamCursor.class);
+        ChangeStreamDocument<BsonDocument> event = mock(ChangeStreamDocument.class);
+        when(event.getDocumentKey()).thenReturn(new BsonDocument("_id", new BsonString("a")));
+        when(schemasCollection.watch()).thenReturn(changeStream);
+        when(changeStream.cursor()).thenReturn(cursor);
+        CountDownLatch schemaChanged = new CountDownLatch(1);
+        CountDownLatch never = new CountDownLatch(1);
+        when(cursor.tryNext())
+                .thenAnswer(
+                        invocation -> {
+                            schemaChanged.await();
+                            return event;
+                        })
+                .thenAnswer(
+                        invocation -> {
+                            never.await();
+                            return null;
+                        });
+        // The time to live is not used while the change stream is followed.
+        SchemaCatalogCache cache = new SchemaCatalogCache(0);
+
+        cache.getSchemas(database, Arrays.asList("a"));
+        cache.getSchemas(database, Arrays.asList("a"));
+        verify(find, times(1)).into(any());
+
+        long version = cache.getVersion("db");
+        schemaChanged.countDown();
+        for (int i = 0; i < 500 && cache.getVersion("db") == version; i++) {
+            Thread.sleep(10);
+        }
+        assertNotEquals(version, cache.getVersion("db"));
+        cache.getSchemas(database, Arrays.asList("a"));
+        verify(find, times(2)).into(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testNumberOfWatchedDatabasesIsBounded() {
+        ChangeStreamIterable<BsonDocument> changeStream = mock(ChangeStreamIterable.class);
+        MongoChangeStreamCursor<ChangeStreamDocument<BsonDocument>> cursor =
+                mock(MongoChangeStreamCursor.class);
+        when(schemasCollection.watch()).thenReturn(changeStream);
+        when(changeStream.cursor()).thenReturn(cursor);
+        CountDownLatch never = new CountDownLatch(1);
+        when(cursor.tryNext())
+                .thenAnswer(
+                        invocation -> {
+                            never.await();
+                            return null;
+                        });
+        SchemaCatalogCache cache = new SchemaCatalogCache(60);
+
+        for (int i = 0; i < SchemaCatalogCache.MAX_WATCHED_DATABASES + 4; i++) {
+            MongoDatabase db = mock(MongoDatabase.class);
+            when(db.getName()).thenReturn("db" + i);
+            when(db.getCollection(MongoSQLTranslate.SQL_SCHEMAS_COLLECTION, BsonDocument.class))
+                    .thenReturn(schemasCollection);
+            cache.getSchemas(db, Arrays.asList("a"));
+        }
+        // The other databases rely on the time to live.
+        verify(schemasCollection, times(SchemaCatalogCache.MAX_WATCHED_DATABASES)).watch();
+    }
+}
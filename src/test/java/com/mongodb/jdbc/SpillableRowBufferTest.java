@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.junit.jupiter.api.Test;
+
+class SpillableRowBufferTest {
+
+    private static RawBsonDocument row(int i) {
+        return new RawBsonDocument(
+                new BsonDocument("i", new BsonInt32(i)).append("s", new BsonString("row " + i)),
+                new BsonDocumentCodec());
+    }
+
+    @Test
+    void testRowsStayInMemoryUnderTheLimit() throws Exception {
+        try (SpillableRowBuffer buffer = new SpillableRowBuffer(1024 * 1024)) {
+            for (int i = 0; i < 100; i++) {
+                buffer.add(row(i));
+            }
+            assertEquals(100, buffer.size());
+            assertFalse(buffer.hasSpilled());
+            assertEquals(row(42), buffer.get(42));
+        }
+    }
+
+    @Test
+    void testRowsOverTheLimitAreSpilled() throws Exception {
+        int rowSize = row(0).getByteBuffer().remaining();
+        try (SpillableRowBuffer buffer = new SpillableRowBuffer(rowSize * 10L)) {
+            for (int i = 0; i < 1000; i++) {
+                buffer.add(row(i));
+            }
+            assertEquals(1000, buffer.size());
+            assertTrue(buffer.hasSpilled());
+
+            // Read the rows in both directions, from memory and from the spill file.
+            for (int i = 999; i >= 0; i--) {
+                assertEquals(row(i), buffer.get(i));
+            }
+            for (int i = 0; i < 1000; i += 7) {
+                assertEquals(row(i), buffer.get(i));
+            }
+
+            // Rows appended after a spilled row has been read are readable too.
+            buffer.add(row(1000));
+            assertEquals(row(1000), buffer.get(1000));
+        }
+    }
+}
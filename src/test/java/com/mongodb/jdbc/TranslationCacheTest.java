@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.jdbc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.jdbc.mongosql.TranslateResult;
+import com.mongodb.jdbc.mongosql.TranslationCache;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Test;
+
+class TranslationCacheTest {
+
+    private static BsonDocument catalog(String type) {
+        return new BsonDocument(
+                "db",
+                new BsonDocument(
+                        "coll",
+                        new BsonDocument(
+                                "properties",
+                                new BsonDocument(
+                                        "a",
+                                        new BsonDocument("bsonType", new BsonString(type))))));
+    }
+
+    private static TranslateResult translation() {
+        return new TranslateResult(
+                "db", "coll", Collections.emptyList(), null, Collections.emptyList());
+    }
+
+    @Test
+    void testTranslationsAreKeyedByCatalog() throws Exception {
+        TranslationCache cache = new TranslationCache(10, 0);
+        AtomicInteger loads = new AtomicInteger();
+        TranslationCache.Loader<TranslateResult> loader =
+                () -> {
+                    loads.incrementAndGet();
+                    return translation();
+                };
+
+        TranslateResult first =
+                cache.getTranslation("db", "select a from coll", catalog("int"), loader);
+        assertSame(first, cache.getTranslation("db", "select a from coll", catalog("int"), loader));
+        assertEquals(1, loads.get());
+
+        // A schema change, another database or another query lead to a new translation.
+        cache.getTranslation("db", "select a from coll", catalog("string"), loader);
+        cache.getTranslation("db2", "select a from coll", catalog("int"), loader);
+        cache.getTranslation("db", "select * from coll", catalog("int"), loader);
+        assertEquals(4, loads.get());
+
+        MongoCacheStats stats = cache.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(4, stats.getMissCount());
+        assertEquals(4, stats.getSize());
+    }
+
+    @Test
+    void testLeastRecentlyUsedTranslationsAreEvicted() throws Exception {
+        TranslationCache cache = new TranslationCache(2, 0);
+        AtomicInteger loads = new AtomicInteger();
+        TranslationCache.Loader<TranslateResult> loader =
+                () -> {
+                    loads.incrementAndGet();
+                    return translation();
+                };
+        for (int i = 0; i < 10; i++) {
+            cache.getTranslation("db", "select " + i, catalog("int"), loader);
+        }
+        assertEquals(10, loads.get());
+        assertTrue(cache.getStats().getSize() <= 2);
+        assertTrue(cache.getStats().getEvictionCount() >= 8);
+    }
+
+    @Test
+    void testDisabledCacheAlwaysLoads() throws Exception {
+        TranslationCache cache = TranslationCache.forClient(mock(MongoClient.class), 0, 0);
+        AtomicInteger loads = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            cache.getTranslation(
+                    "db",
+                    "select 1",
+                    catalog("int"),
+                    () -> {
+                        loads.incrementAndGet();
+                        return translation();
+                    });
+        }
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testCacheIsSharedPerClient() {
+        MongoClient client = mock(MongoClient.class);
+        TranslationCache cache = TranslationCache.forClient(client, 10, 60);
+        assertSame(cache, TranslationCache.forClient(client, 10, 60));
+        assertNotSame(cache, TranslationCache.forClient(mock(MongoClient.class), 10, 60));
+    }
+}